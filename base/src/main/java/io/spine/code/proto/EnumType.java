@@ -40,17 +40,20 @@ import static com.google.common.base.Preconditions.checkNotNull;
 public final class EnumType extends Type<EnumDescriptor, EnumDescriptorProto> {
 
     private EnumType(EnumDescriptor descriptor,
-                     EnumDescriptorProto descriptorProto,
                      ClassName className,
                      TypeUrl typeUrl) {
-        super(descriptor, descriptorProto, className, typeUrl);
+        super(descriptor, className, typeUrl);
     }
 
     private static EnumType create(EnumDescriptor descriptor) {
-        EnumDescriptorProto descriptorProto = descriptor.toProto();
         ClassName className = ClassName.from(descriptor);
         TypeUrl typeUrl = TypeUrl.from(descriptor);
-        return new EnumType(descriptor, descriptorProto, className, typeUrl);
+        return new EnumType(descriptor, className, typeUrl);
+    }
+
+    @Override
+    public EnumDescriptorProto toProto() {
+        return descriptor().toProto();
     }
 
     @SuppressWarnings("MethodWithMultipleLoops")
@@ -33,7 +33,11 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -50,6 +54,8 @@ import static io.spine.option.Options.registry;
 import static io.spine.util.Exceptions.illegalArgumentWithCauseOf;
 import static io.spine.util.Exceptions.illegalStateWithCauseOf;
 import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
@@ -72,6 +78,11 @@ public final class FileDescriptors {
      */
     public static final String KNOWN_TYPES = "known_types.desc";
 
+    /**
+     * The protocol of the URLs pointing to files in the file system.
+     */
+    private static final String FILE_PROTOCOL = "file";
+
     /** Prevents instantiation of this utility class. */
     private FileDescriptors() {
     }
@@ -201,9 +212,15 @@ public final class FileDescriptors {
 
     /**
      * Reads an instance of {@link FileDescriptorSet} from the given {@link URL}.
+     *
+     * <p>If the URL points to a file in the file system, the file is mapped into memory.
+     * Otherwise, for example, for a file packed into a JAR, the file is read as a stream.
      */
     private static FileDescriptorSet loadFrom(URL file) {
         checkNotNull(file);
+        if (FILE_PROTOCOL.equals(file.getProtocol())) {
+            return loadMapped(file);
+        }
         try (InputStream stream = file.openStream()) {
             FileDescriptorSet parsed = FileDescriptorSet.parseFrom(stream, registry());
             return parsed;
@@ -216,6 +233,20 @@ public final class FileDescriptors {
         }
     }
 
+    private static FileDescriptorSet loadMapped(URL file) {
+        try (FileChannel channel = FileChannel.open(Paths.get(file.toURI()), READ)) {
+            MappedByteBuffer buffer = channel.map(READ_ONLY, 0, channel.size());
+            FileDescriptorSet parsed = FileDescriptorSet.parseFrom(buffer, registry());
+            return parsed;
+        } catch (IOException | URISyntaxException e) {
+            throw newIllegalStateException(
+                    e,
+                    "Unable to load file descriptor set from %s.",
+                    file
+            );
+        }
+    }
+
     /**
      * A view on a {@link FileDescriptorSet} after merging.
      */
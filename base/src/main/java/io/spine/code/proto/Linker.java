@@ -22,7 +22,6 @@ package io.spine.code.proto;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import com.google.protobuf.Descriptors.DescriptorValidationException;
 import com.google.protobuf.Descriptors.FileDescriptor;
@@ -30,8 +29,15 @@ import com.google.protobuf.Descriptors.FileDescriptor;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Lists.newArrayListWithCapacity;
+import static com.google.common.collect.Maps.newHashMapWithExpectedSize;
 import static com.google.protobuf.Descriptors.FileDescriptor.buildFrom;
 import static io.spine.util.Exceptions.newIllegalStateException;
 import static java.util.stream.Collectors.toList;
@@ -39,14 +45,46 @@ import static java.util.stream.Collectors.toList;
 /**
  * Builds a set of {@link FileDescriptor}s from a list of {@link FileDescriptorProto}.
  *
+ * <p>The files which have all their dependencies among the input are resolved in
+ * the topological order. A file is built after all its dependencies. The files of the same
+ * depth in the dependency graph do not depend on each other, so they are built in parallel
+ * if there are enough of them.
+ *
  * @author Alexander Yevsyukov
  */
 class Linker {
 
     private static final FileDescriptor[] NO_DEPENDENCIES = {};
 
+    /**
+     * The depth of a file which cannot be resolved.
+     *
+     * <p>A file cannot be resolved if some of its dependencies are missing in the input,
+     * or if it takes part in an import cycle.
+     */
+    private static final int UNRESOLVABLE = -1;
+
+    /**
+     * The mark of a file which depth is being calculated.
+     */
+    private static final int IN_PROGRESS = -2;
+
+    /**
+     * The minimal number of files of one level which are built in parallel.
+     *
+     * <p>Smaller levels are built in the calling thread, as building a file is cheaper than
+     * passing it to another thread.
+     */
+    @VisibleForTesting
+    static final int PARALLELISM_THRESHOLD = 16;
+
     private final List<FileDescriptorProto> input;
 
+    /**
+     * The pool to build the files of large levels.
+     */
+    private final ForkJoinPool pool;
+
     private final List<FileDescriptorProto> remaining;
 
     private final FileSet resolved;
@@ -54,8 +92,14 @@ class Linker {
     private final FileSet unresolved;
 
     Linker(Iterable<FileDescriptorProto> input) {
+        this(input, ForkJoinPool.commonPool());
+    }
+
+    @VisibleForTesting
+    Linker(Iterable<FileDescriptorProto> input, ForkJoinPool pool) {
         this.input = ImmutableList.copyOf(input);
-        this.remaining = Lists.newArrayList(input);
+        this.pool = checkNotNull(pool);
+        this.remaining = newArrayList(input);
         this.resolved = FileSet.newInstance();
         this.partiallyResolved = FileSet.newInstance();
         this.unresolved = FileSet.newInstance();
@@ -77,49 +121,143 @@ class Linker {
     void resolve() throws DescriptorValidationException {
         // Make sure this method is called only after the constructor once.
         checkState(input.size() == remaining.size());
-        findNoDependencies();
         findResolved();
         findPartiallyResolved();
         addUnresolved();
     }
 
-    private void findNoDependencies() throws DescriptorValidationException {
-        Iterator<FileDescriptorProto> iterator = remaining.iterator();
-        while (iterator.hasNext()) {
-            FileDescriptorProto next = iterator.next();
-            if (next.getDependencyCount() == 0) {
-                FileDescriptor fd = buildFrom(next, NO_DEPENDENCIES, true);
-                resolved.add(fd);
-                iterator.remove();
+    /**
+     * Builds the files which have all their dependencies resolvable, level by level.
+     */
+    private void findResolved() throws DescriptorValidationException {
+        List<List<FileDescriptorProto>> levels = resolvableByDepth();
+        for (List<FileDescriptorProto> level : levels) {
+            List<FileDescriptor> built = build(level);
+            for (FileDescriptor file : built) {
+                resolved.add(file);
             }
         }
+        remaining.removeIf(file -> resolved.contains(FileName.from(file)));
     }
 
     /**
-     * Iterates over the remaining files while the list is not empty,
-     * or no more resolved files found.
+     * Groups the resolvable files by their depth in the dependency graph.
+     *
+     * <p>The files without dependencies have depth zero. Otherwise, the depth of a file
+     * is greater by one than the maximal depth of its dependencies.
      */
-    private void findResolved() throws DescriptorValidationException {
-        boolean resolvedFound = true;
-        while (!remaining.isEmpty() && resolvedFound) {
-            resolvedFound = doFindResolved();
+    private List<List<FileDescriptorProto>> resolvableByDepth() {
+        Map<FileName, FileDescriptorProto> files = newHashMapWithExpectedSize(input.size());
+        for (FileDescriptorProto file : input) {
+            files.putIfAbsent(FileName.from(file), file);
         }
+        Map<FileName, Integer> depths = newHashMapWithExpectedSize(files.size());
+        List<List<FileDescriptorProto>> levels = newArrayList();
+        for (Map.Entry<FileName, FileDescriptorProto> file : files.entrySet()) {
+            int depth = depthOf(file.getKey(), files, depths);
+            if (depth != UNRESOLVABLE) {
+                while (levels.size() <= depth) {
+                    levels.add(newArrayList());
+                }
+                levels.get(depth)
+                      .add(file.getValue());
+            }
+        }
+        return levels;
     }
 
-    private boolean doFindResolved() throws DescriptorValidationException {
-        boolean result = false;
-        Iterator<FileDescriptorProto> iterator = remaining.iterator();
-        while (iterator.hasNext()) {
-            FileDescriptorProto next = iterator.next();
-            Collection<FileName> dependencyList = dependencies(next);
-            if (resolved.containsAll(dependencyList)) {
-                FileSet dependencies = resolved.find(dependencyList);
-                FileDescriptor newResolved = buildFrom(next, dependencies.toArray(), true);
-                resolved.add(newResolved);
-                result = true;
-                iterator.remove();
+    private static int depthOf(FileName name,
+                               Map<FileName, FileDescriptorProto> files,
+                               Map<FileName, Integer> depths) {
+        Integer known = depths.get(name);
+        if (known != null) {
+            return known == IN_PROGRESS
+                   ? UNRESOLVABLE
+                   : known;
+        }
+        FileDescriptorProto file = files.get(name);
+        if (file == null) {
+            return UNRESOLVABLE;
+        }
+        depths.put(name, IN_PROGRESS);
+        int depth = 0;
+        for (FileName dependency : dependencies(file)) {
+            int dependencyDepth = depthOf(dependency, files, depths);
+            if (dependencyDepth == UNRESOLVABLE) {
+                depth = UNRESOLVABLE;
+                break;
+            }
+            depth = Math.max(depth, dependencyDepth + 1);
+        }
+        depths.put(name, depth);
+        return depth;
+    }
+
+    /**
+     * Builds the files of one level of the dependency graph.
+     *
+     * <p>All the dependencies of the files must be already resolved.
+     *
+     * <p>The files are built in the {@linkplain #pool pool} only if there are at least
+     * {@link #PARALLELISM_THRESHOLD} of them.
+     */
+    private List<FileDescriptor> build(List<FileDescriptorProto> level)
+            throws DescriptorValidationException {
+        if (level.size() < PARALLELISM_THRESHOLD) {
+            List<FileDescriptor> result = newArrayListWithCapacity(level.size());
+            for (FileDescriptorProto file : level) {
+                result.add(buildResolved(file));
+            }
+            return result;
+        }
+        List<ForkJoinTask<FileDescriptor>> tasks =
+                level.stream()
+                     .map(file -> ForkJoinTask.adapt(() -> buildResolved(file)))
+                     .collect(toList());
+        tasks.forEach(pool::execute);
+        List<FileDescriptor> result = newArrayListWithCapacity(tasks.size());
+        for (ForkJoinTask<FileDescriptor> task : tasks) {
+            result.add(join(task));
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the result of the given task.
+     *
+     * <p>If the task failed to build the file, rethrows the original exception. The pool may
+     * wrap the exception several times when passing it between the threads.
+     */
+    private static FileDescriptor join(ForkJoinTask<FileDescriptor> task)
+            throws DescriptorValidationException {
+        try {
+            return task.join();
+        } catch (RuntimeException e) {
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof DescriptorValidationException) {
+                    throw (DescriptorValidationException) cause;
+                }
             }
+            throw e;
+        }
+    }
+
+    /**
+     * Builds the file with the resolved dependencies.
+     *
+     * <p>The dependencies are passed in the order of their declaration in the file.
+     */
+    private FileDescriptor buildResolved(FileDescriptorProto file)
+            throws DescriptorValidationException {
+        FileDescriptor[] dependencies = new FileDescriptor[file.getDependencyCount()];
+        for (int i = 0; i < dependencies.length; i++) {
+            FileName dependency = FileName.of(file.getDependency(i));
+            dependencies[i] = resolved.tryFind(dependency)
+                                      .orElseThrow(() -> newIllegalStateException(
+                                              "Dependency %s of %s is not resolved.",
+                                              dependency, file.getName()));
         }
+        FileDescriptor result = buildFrom(file, dependencies, true);
         return result;
     }
 
@@ -39,17 +39,20 @@ import static com.google.common.base.Preconditions.checkNotNull;
 public class MessageType extends Type<Descriptor, DescriptorProto> {
 
     protected MessageType(Descriptor descriptor,
-                          DescriptorProto descriptorProto,
                           ClassName className,
                           TypeUrl typeUrl) {
-        super(descriptor, descriptorProto, className, typeUrl);
+        super(descriptor, className, typeUrl);
     }
 
     private static MessageType create(Descriptor descriptor) {
-        DescriptorProto descriptorProto = descriptor.toProto();
         ClassName className = ClassName.from(descriptor);
         TypeUrl typeUrl = TypeUrl.from(descriptor);
-        return new MessageType(descriptor, descriptorProto, className, typeUrl);
+        return new MessageType(descriptor, className, typeUrl);
+    }
+
+    @Override
+    public DescriptorProto toProto() {
+        return descriptor().toProto();
     }
 
     /**
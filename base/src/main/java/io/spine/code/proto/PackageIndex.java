@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.errorprone.annotations.Immutable;
+import io.spine.annotation.Internal;
+import io.spine.type.TypeName;
+import io.spine.type.TypeUrl;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.type.TypeName.PACKAGE_SEPARATOR;
+import static java.util.Comparator.comparing;
+
+/**
+ * A sorted index of type names along with the URLs of the types.
+ *
+ * <p>Finds the types of a package, or the types which names start with a prefix, without
+ * scanning all the types. The results are immutable views of the index.
+ *
+ * <p>The URLs are obtained without linking the files declaring the types.
+ */
+@Internal
+@Immutable
+public final class PackageIndex {
+
+    private static final Comparator<TypeName> byValue = comparing(TypeName::value);
+
+    /**
+     * The character next to the {@linkplain TypeName#PACKAGE_SEPARATOR package separator}.
+     *
+     * <p>Bounds the names of a package from above.
+     */
+    private static final char AFTER_SEPARATOR = PACKAGE_SEPARATOR + 1;
+
+    private static final PackageIndex EMPTY =
+            new PackageIndex(ImmutableSortedMap.<TypeName, TypeUrl>orderedBy(byValue)
+                                               .build());
+
+    private final ImmutableSortedMap<TypeName, TypeUrl> urls;
+
+    private PackageIndex(ImmutableSortedMap<TypeName, TypeUrl> urls) {
+        this.urls = urls;
+    }
+
+    /**
+     * Obtains an empty index.
+     */
+    public static PackageIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates an index of the given types.
+     *
+     * @param urls the URLs of the types by their names
+     */
+    public static PackageIndex of(Map<TypeName, TypeUrl> urls) {
+        checkNotNull(urls);
+        ImmutableSortedMap<TypeName, TypeUrl> sorted = ImmutableSortedMap.copyOf(urls, byValue);
+        return new PackageIndex(sorted);
+    }
+
+    /**
+     * Creates an index of the types of this index and the given types.
+     *
+     * <p>The given types replace the types of this index with the same names.
+     */
+    public PackageIndex with(Map<TypeName, TypeUrl> moreUrls) {
+        checkNotNull(moreUrls);
+        SortedMap<TypeName, TypeUrl> merged = new TreeMap<>(byValue);
+        merged.putAll(urls);
+        merged.putAll(moreUrls);
+        return new PackageIndex(ImmutableSortedMap.copyOfSorted(merged));
+    }
+
+    /**
+     * Obtains the URLs of all the types of the index by their names.
+     */
+    public ImmutableSortedMap<TypeName, TypeUrl> all() {
+        return urls;
+    }
+
+    /**
+     * Obtains the types declared in the given package or its subpackages.
+     *
+     * @param packageName the proto package name
+     * @return the URLs of the package types by their names or an empty map if there are
+     *         no such types
+     */
+    public ImmutableSortedMap<TypeName, TypeUrl> inPackage(String packageName) {
+        checkNotNull(packageName);
+        TypeName from = TypeName.of(packageName + PACKAGE_SEPARATOR);
+        TypeName to = TypeName.of(packageName + AFTER_SEPARATOR);
+        return urls.subMap(from, to);
+    }
+
+    /**
+     * Obtains the types which names start with the given prefix.
+     *
+     * <p>Unlike {@link #inPackage(String)}, the prefix does not have to end at a package
+     * boundary. For example, the prefix {@code "spine.ba"} matches {@code "spine.base.Error"}.
+     *
+     * @param prefix the beginning of the type names
+     * @return the URLs of the matching types by their names or an empty map if there are
+     *         no such types
+     */
+    public ImmutableSortedMap<TypeName, TypeUrl> withPrefix(String prefix) {
+        checkNotNull(prefix);
+        if (prefix.isEmpty()) {
+            return urls;
+        }
+        TypeName from = TypeName.of(prefix);
+        TypeName to = TypeName.of(prefix + Character.MAX_VALUE);
+        return urls.subMap(from, to);
+    }
+
+    /**
+     * Obtains the number of types in the index.
+     */
+    public int size() {
+        return urls.size();
+    }
+
+    /**
+     * Tells if the index has no types.
+     */
+    public boolean isEmpty() {
+        return urls.isEmpty();
+    }
+}
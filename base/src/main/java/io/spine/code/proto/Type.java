@@ -20,8 +20,8 @@
 
 package io.spine.code.proto;
 
-import com.google.common.base.Objects;
 import com.google.errorprone.annotations.Immutable;
+import com.google.errorprone.annotations.concurrent.LazyInit;
 import com.google.protobuf.Descriptors.GenericDescriptor;
 import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
@@ -29,12 +29,15 @@ import io.spine.type.ClassName;
 import io.spine.type.TypeName;
 import io.spine.type.TypeUrl;
 import io.spine.type.UnknownTypeException;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * A Protobuf type.
  *
+ * <p>Types are identified by their full names.
+ *
  * @param <T> the type of the type descriptor
  * @param <P> the type of the proto message of the descriptor
  * @author Alexander Yevsyukov
@@ -45,13 +48,20 @@ import static com.google.common.base.Preconditions.checkNotNull;
 public abstract class Type<T extends GenericDescriptor, P extends Message> {
 
     private final T descriptor;
-    private final P proto;
     private final ClassName className;
     private final TypeUrl url;
 
-    protected Type(T descriptor, P descriptorProto, ClassName javaClassName, TypeUrl url) {
+    /**
+     * The Java class of this type, loaded on the first request.
+     *
+     * <p>The class is resolved by the class loader of this class, so the same class is
+     * obtained by all the threads. Racing threads may load it more than once, which is harmless.
+     */
+    @LazyInit
+    private volatile @Nullable Class<?> javaClass;
+
+    protected Type(T descriptor, ClassName javaClassName, TypeUrl url) {
         this.descriptor = checkNotNull(descriptor);
-        this.proto = checkNotNull(descriptorProto);
         this.url = url;
         this.className = javaClassName;
     }
@@ -65,10 +75,11 @@ public abstract class Type<T extends GenericDescriptor, P extends Message> {
 
     /**
      * Obtains the proto message of the type descriptor.
+     *
+     * <p>The message is created on each call, so that the type does not hold a copy of
+     * the descriptor.
      */
-    public P toProto() {
-        return this.proto;
-    }
+    public abstract P toProto();
 
     /**
      * Obtains the {@linkplain TypeName name} of this type.
@@ -86,8 +97,21 @@ public abstract class Type<T extends GenericDescriptor, P extends Message> {
 
     /**
      * Loads the Java class representing this Protobuf type.
+     *
+     * <p>The class is loaded once and then reused.
+     *
+     * @throws UnknownTypeException if there is no such class
      */
     public Class<?> javaClass() {
+        Class<?> result = javaClass;
+        if (result == null) {
+            result = loadClass();
+            javaClass = result;
+        }
+        return result;
+    }
+
+    private Class<?> loadClass() {
         try {
             return Class.forName(className.value());
         } catch (ClassNotFoundException e) {
@@ -111,11 +135,13 @@ public abstract class Type<T extends GenericDescriptor, P extends Message> {
             return false;
         }
         Type<?, ?> type = (Type<?, ?>) o;
-        return Objects.equal(proto, type.proto);
+        return descriptor.getFullName()
+                         .equals(type.descriptor.getFullName());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(proto);
+        return descriptor.getFullName()
+                         .hashCode();
     }
 }
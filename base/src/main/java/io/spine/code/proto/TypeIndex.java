@@ -0,0 +1,337 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Immutable;
+import com.google.errorprone.annotations.concurrent.LazyInit;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.annotation.Internal;
+import io.spine.logging.Logging;
+import io.spine.type.TypeName;
+import io.spine.type.TypeUrl;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Lists.newArrayListWithCapacity;
+import static com.google.common.collect.Maps.newHashMapWithExpectedSize;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+import static com.google.common.collect.Sets.newHashSet;
+import static com.google.protobuf.Descriptors.FileDescriptor.buildFrom;
+import static io.spine.type.TypeName.PACKAGE_SEPARATOR;
+
+/**
+ * A set of Protobuf types which are linked on demand.
+ *
+ * <p>When created, the index only remembers which file declares each type. A file is
+ * {@linkplain FileDescriptor#buildFrom linked} along with its dependencies when a type
+ * declared in it is first requested.
+ *
+ * <p>Files which import a file absent in the index are linked without the missing
+ * dependency, in the same way as {@link Linker} does for partially resolved files.
+ * A file which cannot be linked with its dependencies is linked alone, as {@code Linker} does
+ * for unresolved files. If even that fails, the types of the file are not found, while
+ * the types of other files are still served.
+ */
+@Internal
+@Immutable
+public final class TypeIndex {
+
+    private static final FileDescriptor[] NO_DEPENDENCIES = {};
+
+    private final ImmutableMap<FileName, FileDescriptorProto> files;
+    private final ImmutableMap<TypeName, FileName> declaringFiles;
+    private final PackageIndex packages;
+
+    /**
+     * The lock to synchronize the linking of the files.
+     */
+    @SuppressWarnings("Immutable") // Does not affect the state visible to the callers.
+    private final Lock lock = new ReentrantLock(false);
+
+    @SuppressWarnings("Immutable") // Caches the linked files.
+    private final ConcurrentMap<FileName, FileDescriptor> linked = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("Immutable") // Caches the files which cannot be linked.
+    private final Set<FileName> unresolved = ConcurrentHashMap.newKeySet();
+
+    @SuppressWarnings("Immutable") // Caches the types of the linked files.
+    private final ConcurrentMap<FileName, TypeSet> fileTypes = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("Immutable") // Caches the types of all the files.
+    @LazyInit
+    private volatile @Nullable TypeSet allTypes;
+
+    private TypeIndex(Map<FileName, FileDescriptorProto> files,
+                      Map<TypeName, FileName> declaringFiles) {
+        this.files = ImmutableMap.copyOf(files);
+        this.declaringFiles = ImmutableMap.copyOf(declaringFiles);
+        this.packages = PackageIndex.of(urlsOf(this.files, this.declaringFiles));
+    }
+
+    /**
+     * Obtains the URLs of the types from the options of the files declaring them.
+     */
+    private static Map<TypeName, TypeUrl> urlsOf(Map<FileName, FileDescriptorProto> files,
+                                                 Map<TypeName, FileName> declaringFiles) {
+        Map<TypeName, TypeUrl> result = newHashMapWithExpectedSize(declaringFiles.size());
+        declaringFiles.forEach(
+                (name, file) -> result.put(name, TypeUrl.from(files.get(file), name))
+        );
+        return result;
+    }
+
+    /**
+     * Creates an index of the {@linkplain FileDescriptors#load() known types} found
+     * on the classpath.
+     */
+    public static TypeIndex load() {
+        Set<FileDescriptorProto> files = FileDescriptors.load();
+        return of(files);
+    }
+
+    /**
+     * Creates an index of the types declared in the given files.
+     *
+     * <p>If several files have the same name, the first one is used.
+     */
+    public static TypeIndex of(Collection<FileDescriptorProto> files) {
+        checkNotNull(files);
+        Map<TypeName, FileName> declaringFiles = newLinkedHashMap();
+        Map<FileName, FileDescriptorProto> filesByName = newLinkedHashMap();
+        for (FileDescriptorProto file : files) {
+            FileName name = FileName.from(file);
+            if (filesByName.putIfAbsent(name, file) == null) {
+                String prefix = file.getPackage();
+                addTypes(prefix, file.getMessageTypeList(), file.getEnumTypeList(),
+                         name, declaringFiles);
+            }
+        }
+        return new TypeIndex(filesByName, declaringFiles);
+    }
+
+    /**
+     * Adds the names of the given message and enum types, including the nested ones.
+     *
+     * <p>Follows the rules of {@link MessageType#allFrom(FileDescriptor)} and
+     * {@link EnumType#allFrom(FileDescriptor)}.
+     */
+    private static void addTypes(String scope,
+                                 List<DescriptorProto> messages,
+                                 List<EnumDescriptorProto> enums,
+                                 FileName file,
+                                 Map<TypeName, FileName> target) {
+        for (EnumDescriptorProto enumType : enums) {
+            target.putIfAbsent(nameOf(scope, enumType.getName()), file);
+        }
+        for (DescriptorProto message : messages) {
+            String name = fullName(scope, message.getName());
+            if (!message.getOptions()
+                        .getMapEntry()) {
+                target.putIfAbsent(TypeName.of(name), file);
+            }
+            addTypes(name, message.getNestedTypeList(), message.getEnumTypeList(), file, target);
+        }
+    }
+
+    private static TypeName nameOf(String scope, String simpleName) {
+        return TypeName.of(fullName(scope, simpleName));
+    }
+
+    private static String fullName(String scope, String simpleName) {
+        return scope.isEmpty()
+               ? simpleName
+               : scope + PACKAGE_SEPARATOR + simpleName;
+    }
+
+    /**
+     * Obtains the number of types in the index.
+     */
+    public int size() {
+        return declaringFiles.size();
+    }
+
+    /**
+     * Obtains the names and the URLs of the types in the index.
+     *
+     * <p>Does not link any files.
+     */
+    public PackageIndex packages() {
+        return packages;
+    }
+
+    /**
+     * Checks if the type with the given name is present in the index.
+     *
+     * <p>Does not link any files.
+     */
+    public boolean contains(TypeName name) {
+        checkNotNull(name);
+        return declaringFiles.containsKey(name);
+    }
+
+    /**
+     * Obtains a type by its name.
+     *
+     * <p>Links the file declaring the type, if it is not linked yet.
+     *
+     * @return the type with the given name or {@code Optional.empty()} if there is no such type
+     *         in the index
+     */
+    public Optional<Type<?, ?>> find(TypeName name) {
+        checkNotNull(name);
+        FileName file = declaringFiles.get(name);
+        if (file == null) {
+            return Optional.empty();
+        }
+        return typesOf(file).find(name);
+    }
+
+    /**
+     * Obtains all the types of the index.
+     *
+     * <p>Links all the files which are not linked yet.
+     */
+    public TypeSet allTypes() {
+        TypeSet result = allTypes;
+        if (result == null) {
+            TypeSet.Builder builder = TypeSet.newBuilder();
+            for (FileName file : files.keySet()) {
+                builder.addAll(typesOf(file));
+            }
+            result = builder.build();
+            allTypes = result;
+        }
+        return result;
+    }
+
+    private TypeSet typesOf(FileName file) {
+        TypeSet types = fileTypes.get(file);
+        if (types == null) {
+            FileDescriptor descriptor = link(file);
+            TypeSet newTypes = descriptor != null
+                               ? TypeSet.messagesAndEnums(descriptor)
+                               : TypeSet.newBuilder()
+                                        .build();
+            TypeSet existing = fileTypes.putIfAbsent(file, newTypes);
+            types = existing != null
+                    ? existing
+                    : newTypes;
+        }
+        return types;
+    }
+
+    /**
+     * Obtains the linked descriptor of the file with the given name.
+     *
+     * <p>Each file is linked only once, so that the descriptors of the types of different
+     * files refer to the same descriptors of their common dependencies.
+     *
+     * @return the linked file or {@code null} if there is no such file in the index or
+     *         the file cannot be linked
+     */
+    private @Nullable FileDescriptor link(FileName file) {
+        FileDescriptor result = linked.get(file);
+        if (result != null) {
+            return result;
+        }
+        lock.lock();
+        try {
+            return doLink(file, newHashSet());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Links the file with the given name after its dependencies.
+     *
+     * <p>Should be called only under the {@link #lock}.
+     *
+     * @param file       the name of the file to link
+     * @param inProgress the names of the files being linked, used to break cyclic imports
+     * @return the linked file or {@code null} if the file cannot be linked
+     */
+    private @Nullable FileDescriptor doLink(FileName file, Set<FileName> inProgress) {
+        FileDescriptor result = linked.get(file);
+        if (result != null) {
+            return result;
+        }
+        FileDescriptorProto proto = files.get(file);
+        if (proto == null || unresolved.contains(file) || !inProgress.add(file)) {
+            return null;
+        }
+        List<FileDescriptor> dependencies = newArrayListWithCapacity(proto.getDependencyCount());
+        for (String dependencyName : proto.getDependencyList()) {
+            FileDescriptor dependency = doLink(FileName.of(dependencyName), inProgress);
+            if (dependency != null) {
+                dependencies.add(dependency);
+            }
+        }
+        result = build(proto, dependencies.toArray(NO_DEPENDENCIES));
+        if (result == null) {
+            unresolved.add(file);
+        } else {
+            linked.put(file, result);
+        }
+        return result;
+    }
+
+    /**
+     * Builds the file with the given dependencies or, if it fails, without any dependencies.
+     *
+     * @return the built file or {@code null} if the file cannot be built
+     */
+    private static @Nullable FileDescriptor build(FileDescriptorProto file,
+                                                  FileDescriptor[] dependencies) {
+        try {
+            return buildFrom(file, dependencies, true);
+        } catch (DescriptorValidationException e) {
+            log().warn("Unable to link the file `{}` with its dependencies.", file.getName(), e);
+        }
+        try {
+            return buildFrom(file, NO_DEPENDENCIES, true);
+        } catch (DescriptorValidationException e) {
+            log().warn("Unable to link the file `{}`. Its types are not available.",
+                       file.getName(), e);
+            return null;
+        }
+    }
+
+    private static Logger log() {
+        return Logging.get(TypeIndex.class);
+    }
+}
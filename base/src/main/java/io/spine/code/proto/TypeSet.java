@@ -36,7 +36,6 @@ import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableMap.copyOf;
-import static com.google.common.collect.ImmutableMap.of;
 import static com.google.common.collect.Maps.newHashMap;
 import static com.google.common.collect.Maps.newHashMapWithExpectedSize;
 
@@ -50,11 +49,6 @@ public class TypeSet {
     private final ImmutableMap<TypeName, MessageType> messageTypes;
     private final ImmutableMap<TypeName, EnumType> enumTypes;
 
-    /** Creates a new empty set. */
-    private TypeSet() {
-        this(of(), of());
-    }
-
     private TypeSet(Map<TypeName, MessageType> messageTypes, Map<TypeName, EnumType> enumTypes) {
         this.messageTypes = copyOf(messageTypes);
         this.enumTypes = copyOf(enumTypes);
@@ -79,11 +73,11 @@ public class TypeSet {
      * Obtains message and enum types declared in the files represented by the passed set.
      */
     public static TypeSet messagesAndEnums(FileSet fileSet) {
-        TypeSet result = new TypeSet();
+        Builder result = newBuilder();
         for (FileDescriptor file : fileSet.files()) {
-            result = result.union(messagesAndEnums(file));
+            result.addAll(messagesAndEnums(file));
         }
-        return result;
+        return result.build();
     }
 
     /**
@@ -243,6 +237,18 @@ public class TypeSet {
             return this;
         }
 
+        /**
+         * Adds all the types of the given set.
+         *
+         * <p>The added types replace the types with the same names added before.
+         */
+        @CanIgnoreReturnValue
+        public Builder addAll(TypeSet types) {
+            messageTypes.putAll(types.messageTypes);
+            enumTypes.putAll(types.enumTypes);
+            return this;
+        }
+
         /**
          * Creates a new instance of {@code TypeSet}.
          *
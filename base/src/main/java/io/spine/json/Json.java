@@ -26,6 +26,15 @@ import com.google.protobuf.Message;
 import io.spine.type.KnownTypes;
 import io.spine.type.UnknownTypeException;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Throwables.getRootCause;
@@ -35,7 +44,9 @@ import static com.google.protobuf.util.JsonFormat.TypeRegistry;
 import static com.google.protobuf.util.JsonFormat.parser;
 import static com.google.protobuf.util.JsonFormat.printer;
 import static io.spine.protobuf.Messages.builderFor;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
 import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Utilities for working with Json.
@@ -50,6 +61,24 @@ public final class Json {
     private static final Printer COMPACT_PRINTER = PRINTER.omittingInsignificantWhitespace();
     private static final Parser PARSER = parser().usingTypeRegistry(typeRegistry);
 
+    /**
+     * The builders reused by the threads which parse Json.
+     *
+     * <p>The builders are found via the message class, so that no map of the thread references
+     * all the classes it has ever parsed. A builder is cleared after each parsing, so that it
+     * does not keep the last parsed message. Still, a thread keeps one empty builder per
+     * message class it parsed.
+     */
+    private static final ClassValue<ThreadLocal<Message.Builder>> threadBuilders =
+            new ClassValue<ThreadLocal<Message.Builder>>() {
+                @Override
+                protected ThreadLocal<Message.Builder> computeValue(Class<?> type) {
+                    @SuppressWarnings("unchecked") // Only message classes are passed.
+                    Class<? extends Message> messageClass = (Class<? extends Message>) type;
+                    return ThreadLocal.withInitial(() -> builderFor(messageClass));
+                }
+            };
+
     /**
      * Prevents the utility class instantiation.
      */
@@ -93,11 +122,165 @@ public final class Json {
         return result;
     }
 
-    @SuppressWarnings("unchecked") // It is OK as the builder is obtained by the specified class.
+    /**
+     * Writes the Json representation of the passed message to the given output.
+     *
+     * <p>The output is the same as the one of {@link #toJson(Message)}. The text is written
+     * as it is generated, without building the whole document first.
+     *
+     * @param message the message object
+     * @param output  the destination of the Json text
+     * @throws IllegalStateException if the output fails
+     */
+    public static void writeTo(Message message, Appendable output) {
+        checkNotNull(message);
+        checkNotNull(output);
+        try {
+            PRINTER.appendTo(message, output);
+        } catch (InvalidProtocolBufferException e) {
+            Throwable rootCause = getRootCause(e);
+            throw new UnknownTypeException(rootCause);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Writes the Json representation of the passed message to the given stream in UTF-8.
+     *
+     * <p>The output is the same as the one of {@link #toJson(Message)}. The stream is
+     * flushed but not closed.
+     *
+     * @param message the message object
+     * @param output  the destination of the Json text
+     * @throws IllegalStateException if the output fails
+     */
+    public static void writeTo(Message message, OutputStream output) {
+        checkNotNull(message);
+        checkNotNull(output);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, UTF_8));
+        writeTo(message, writer);
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Parses a message of the given class from the passed Json string.
+     *
+     * @param json         the Json text
+     * @param messageClass the class of the message
+     * @param <T>          the type of the message
+     * @return the parsed message
+     * @throws IllegalArgumentException if the text cannot be parsed to a message of the class
+     */
     public static <T extends Message> T fromJson(String json, Class<T> messageClass) {
         checkNotNull(json);
+        Message.Builder messageBuilder = builderFor(messageClass);
+        T result = parse(json, messageClass, messageBuilder);
+        return result;
+    }
+
+    /**
+     * Parses a message of the given class from the passed Json string, reusing a builder of
+     * the calling thread.
+     *
+     * <p>Each thread keeps a builder per message class, which is cleared after parsing.
+     * The builder is kept while the thread is alive and the message class is loaded.
+     * Use this method when the same threads parse many messages of a few classes.
+     *
+     * @param json         the Json text
+     * @param messageClass the class of the message
+     * @param <T>          the type of the message
+     * @return the parsed message
+     * @throws IllegalArgumentException if the text cannot be parsed to a message of the class
+     * @see #fromJson(String, Class)
+     */
+    public static <T extends Message> T fromJsonReusingBuilder(String json,
+                                                               Class<T> messageClass) {
+        checkNotNull(json);
+        Message.Builder messageBuilder = threadBuilderFor(messageClass);
+        try {
+            T result = parse(json, messageClass, messageBuilder);
+            return result;
+        } finally {
+            messageBuilder.clear();
+        }
+    }
+
+    /**
+     * Parses a message of the given class from the passed Json input.
+     *
+     * <p>The input is read as the message is parsed, without loading the whole text first.
+     * The reader is not closed.
+     *
+     * @param json         the Json text
+     * @param messageClass the class of the message
+     * @param <T>          the type of the message
+     * @return the parsed message
+     * @throws IllegalArgumentException if the text cannot be parsed to a message of the class
+     * @throws IllegalStateException    if the input fails
+     */
+    public static <T extends Message> T fromJson(Reader json, Class<T> messageClass) {
+        checkNotNull(json);
+        Message.Builder messageBuilder = builderFor(messageClass);
+        T result = parse(json, messageClass, messageBuilder);
+        return result;
+    }
+
+    /**
+     * Parses a message of the given class from the passed Json input, reusing a builder of
+     * the calling thread.
+     *
+     * <p>The reader is not closed.
+     *
+     * @param json         the Json text
+     * @param messageClass the class of the message
+     * @param <T>          the type of the message
+     * @return the parsed message
+     * @throws IllegalArgumentException if the text cannot be parsed to a message of the class
+     * @throws IllegalStateException    if the input fails
+     * @see #fromJsonReusingBuilder(String, Class)
+     */
+    public static <T extends Message> T fromJsonReusingBuilder(Reader json,
+                                                               Class<T> messageClass) {
+        checkNotNull(json);
+        Message.Builder messageBuilder = threadBuilderFor(messageClass);
+        try {
+            T result = parse(json, messageClass, messageBuilder);
+            return result;
+        } finally {
+            messageBuilder.clear();
+        }
+    }
+
+    /**
+     * Parses a message of the given class from the passed Json input in UTF-8.
+     *
+     * <p>The stream is not closed.
+     *
+     * @param json         the Json text
+     * @param messageClass the class of the message
+     * @param <T>          the type of the message
+     * @return the parsed message
+     * @throws IllegalArgumentException if the text cannot be parsed to a message of the class
+     * @throws IllegalStateException    if the input fails
+     * @see #fromJson(Reader, Class)
+     */
+    public static <T extends Message> T fromJson(InputStream json, Class<T> messageClass) {
+        checkNotNull(json);
+        Reader reader = new InputStreamReader(json, UTF_8);
+        T result = fromJson(reader, messageClass);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked") // It is OK as the builder is obtained by the specified class.
+    private static <T extends Message> T parse(String json,
+                                               Class<T> messageClass,
+                                               Message.Builder messageBuilder) {
         try {
-            Message.Builder messageBuilder = builderFor(messageClass);
             PARSER.merge(json, messageBuilder);
             T result = (T) messageBuilder.build();
             return result;
@@ -108,6 +291,35 @@ public final class Json {
         }
     }
 
+    @SuppressWarnings("unchecked") // It is OK as the builder is obtained by the specified class.
+    private static <T extends Message> T parse(Reader json,
+                                               Class<T> messageClass,
+                                               Message.Builder messageBuilder) {
+        try {
+            PARSER.merge(json, messageBuilder);
+            T result = (T) messageBuilder.build();
+            return result;
+        } catch (InvalidProtocolBufferException e) {
+            throw newIllegalArgumentException(e,
+                                              "The Json input cannot be parsed to the %s class.",
+                                              messageClass);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Obtains the builder of the given message class kept by the calling thread.
+     *
+     * <p>The builder is empty, as it is cleared after each use.
+     */
+    private static Message.Builder threadBuilderFor(Class<? extends Message> messageClass) {
+        checkNotNull(messageClass);
+        Message.Builder builder = threadBuilders.get(messageClass)
+                                                .get();
+        return builder;
+    }
+
     @VisibleForTesting
     static TypeRegistry typeRegistry() {
         return typeRegistry;
@@ -41,6 +41,9 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * <p>When unpacking, the {@code AnyPacker} obtains Java class matching the type URL
  * from the passed {@code Any}.
  *
+ * <p>The type URLs and the parsers of the generated message classes are obtained once per
+ * class, so packing and unpacking messages of these classes does not use reflection.
+ *
  * @author Alexander Yevsyukov
  * @see Any#pack(Message, String)
  * @see Any#unpack(Class)
@@ -68,12 +71,23 @@ public final class AnyPacker {
         if (message instanceof Any) {
             return (Any) message;
         }
+        if (MessageCodec.supports(message)) {
+            return packGenerated(message);
+        }
         TypeUrl typeUrl = TypeUrl.from(message.getDescriptorForType());
         String typeUrlPrefix = typeUrl.getPrefix();
         Any result = Any.pack(message, typeUrlPrefix);
         return result;
     }
 
+    private static <T extends Message> Any packGenerated(T message) {
+        @SuppressWarnings("unchecked") // The class of a message is the class of its type.
+        Class<T> cls = (Class<T>) message.getClass();
+        Any result = MessageCodec.of(cls)
+                                 .pack(message);
+        return result;
+    }
+
     /**
      * Unwraps {@code Any} value into an instance of type specified by value
      * returned by {@link Any#getTypeUrl()}.
@@ -102,7 +116,8 @@ public final class AnyPacker {
      */
     public static <T extends Message> T unpack(Any any, Class<T> cls) {
         try {
-            T result = any.unpack(cls);
+            T result = MessageCodec.of(cls)
+                                   .unpack(any);
             return result;
         } catch (InvalidProtocolBufferException e) {
             throw new UnexpectedTypeException(e);
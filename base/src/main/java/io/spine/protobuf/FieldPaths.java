@@ -27,7 +27,7 @@ import com.google.protobuf.Descriptors.FieldDescriptor.Type;
 import com.google.protobuf.Message;
 import io.spine.base.FieldPath;
 import io.spine.code.proto.ScalarType;
-import io.spine.type.TypeName;
+import io.spine.type.KnownTypes;
 import io.spine.type.TypeUrl;
 
 import java.util.Iterator;
@@ -119,7 +119,9 @@ public final class FieldPaths {
         checkNotNull(path);
         checkNotEmpty(path);
 
-        Descriptor descriptor = TypeName.of(holderType).getMessageDescriptor();
+        Descriptor descriptor = (Descriptor) KnownTypes.instance()
+                                                       .typeOf(holderType)
+                                                       .descriptor();
         FieldDescriptor field = null;
         for (Iterator<String> iterator = path.getFieldNameList().iterator(); iterator.hasNext(); ) {
             String fieldName = iterator.next();
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.protobuf;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.GeneratedMessageV3;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import io.spine.type.TypeUrl;
+
+import static com.google.protobuf.Internal.getDefaultInstance;
+
+/**
+ * Packs messages of a generated class into {@link Any} and unpacks them back.
+ *
+ * <p>The type URL and the parser of the class are obtained once, so that packing and
+ * unpacking do not involve reflection.
+ *
+ * @param <T> the type of the messages
+ */
+final class MessageCodec<T extends Message> {
+
+    private static final ClassValue<MessageCodec<?>> codecs = new ClassValue<MessageCodec<?>>() {
+        @Override
+        protected MessageCodec<?> computeValue(Class<?> cls) {
+            @SuppressWarnings("unchecked") // Ensured by `of(Class)`.
+            Class<? extends Message> messageClass = (Class<? extends Message>) cls;
+            return create(messageClass);
+        }
+    };
+
+    private final String typeUrl;
+    private final String typeName;
+    private final Parser<T> parser;
+
+    private MessageCodec(String typeUrl, String typeName, Parser<T> parser) {
+        this.typeUrl = typeUrl;
+        this.typeName = typeName;
+        this.parser = parser;
+    }
+
+    private static <T extends Message> MessageCodec<T> create(Class<T> cls) {
+        T defaultInstance = getDefaultInstance(cls);
+        TypeUrl url = TypeUrl.of(defaultInstance);
+        @SuppressWarnings("unchecked") // Guaranteed by the generated code.
+        Parser<T> parser = (Parser<T>) defaultInstance.getParserForType();
+        return new MessageCodec<>(url.value(), url.getTypeName(), parser);
+    }
+
+    /**
+     * Obtains the codec for the given message class.
+     *
+     * <p>The codec is created once per class.
+     */
+    static <T extends Message> MessageCodec<T> of(Class<T> cls) {
+        @SuppressWarnings("unchecked") // Ensured by the key of the cache.
+        MessageCodec<T> result = (MessageCodec<T>) codecs.get(cls);
+        return result;
+    }
+
+    /**
+     * Tells if the messages of the given instance can be packed by a codec.
+     *
+     * <p>Only the generated message classes have a single type per class. For example,
+     * a {@link com.google.protobuf.DynamicMessage DynamicMessage} may be of any type.
+     */
+    static boolean supports(Message message) {
+        return message instanceof GeneratedMessageV3;
+    }
+
+    /**
+     * Packs the given message into {@code Any}.
+     */
+    Any pack(T message) {
+        Any result = Any.newBuilder()
+                        .setTypeUrl(typeUrl)
+                        .setValue(message.toByteString())
+                        .build();
+        return result;
+    }
+
+    /**
+     * Unpacks a message from the given {@code Any}.
+     *
+     * @throws InvalidProtocolBufferException
+     *         if the {@code Any} holds a message of another type, or cannot be parsed
+     */
+    T unpack(Any any) throws InvalidProtocolBufferException {
+        String url = any.getTypeUrl();
+        if (!url.equals(typeUrl) && !hasTypeName(url)) {
+            throw new InvalidProtocolBufferException(
+                    "Type of the Any message does not match the given class.");
+        }
+        T result = parser.parseFrom(any.getValue());
+        return result;
+    }
+
+    /**
+     * Tells if the given type URL has the name of the type of this codec.
+     *
+     * <p>A URL may have another prefix than the one used for packing.
+     */
+    private boolean hasTypeName(String url) {
+        int separatorIndex = url.lastIndexOf('/');
+        int nameStart = separatorIndex + 1;
+        boolean result = separatorIndex >= 0
+                && url.length() - nameStart == typeName.length()
+                && url.startsWith(typeName, nameStart);
+        return result;
+    }
+}
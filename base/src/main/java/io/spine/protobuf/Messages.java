@@ -43,6 +43,21 @@ public final class Messages {
     /** The name of a message builder factory method. */
     public static final String METHOD_NEW_BUILDER = "newBuilder";
 
+    /**
+     * The default instances of the message classes, used to create new builders.
+     *
+     * <p>The builder factory method of a class is invoked reflectively only once.
+     */
+    private static final ClassValue<Message> prototypes = new ClassValue<Message>() {
+        @Override
+        protected Message computeValue(Class<?> cls) {
+            @SuppressWarnings("unchecked") // Ensured by `builderFor(Class)`.
+            Class<? extends Message> messageClass = (Class<? extends Message>) cls;
+            Message.Builder builder = newBuilder(messageClass);
+            return builder.getDefaultInstanceForType();
+        }
+    };
+
     /** Prevent instantiation of this utility class. */
     private Messages() {
     }
@@ -73,12 +88,20 @@ public final class Messages {
     /**
      * Returns the builder of the {@code Message}.
      *
+     * <p>The builder factory method is looked up once per class.
+     *
      * @param clazz the message class
      * @return the message builder
      */
     @Internal
     public static Message.Builder builderFor(Class<? extends Message> clazz) {
         checkNotNull(clazz);
+        Message.Builder result = prototypes.get(clazz)
+                                           .newBuilderForType();
+        return result;
+    }
+
+    private static Message.Builder newBuilder(Class<? extends Message> clazz) {
         try {
             Method factoryMethod = clazz.getDeclaredMethod(METHOD_NEW_BUILDER);
             Message.Builder result = (Message.Builder) factoryMethod.invoke(null);
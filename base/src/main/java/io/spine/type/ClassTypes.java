@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.type;
+
+import com.google.protobuf.Message;
+import io.spine.code.proto.Type;
+
+import static com.google.protobuf.Internal.getDefaultInstance;
+
+/**
+ * Caches the Protobuf types of the generated message classes.
+ *
+ * <p>The values are stored with {@link ClassValue}. Note that the values reference
+ * the classes they are computed for, as a {@link Type} holds its
+ * {@linkplain Type#javaClass() Java class}. Thus, the cache may keep a class and
+ * its class loader from being unloaded.
+ */
+final class ClassTypes {
+
+    /**
+     * Type URLs of the message classes.
+     *
+     * <p>A type URL depends only on the class, so it is computed once per class.
+     */
+    private static final ClassValue<TypeUrl> urls = new ClassValue<TypeUrl>() {
+        @Override
+        protected TypeUrl computeValue(Class<?> cls) {
+            @SuppressWarnings("unchecked") // Ensured by `urlOf(Class)`.
+            Class<? extends Message> messageClass = (Class<? extends Message>) cls;
+            Message defaultInstance = getDefaultInstance(messageClass);
+            return TypeUrl.of(defaultInstance);
+        }
+    };
+
+    /**
+     * Known types of the message classes.
+     *
+     * <p>If the type of a class is not known, the computation fails and nothing is stored.
+     * Thus, the class can be found later if the {@link KnownTypes} are extended.
+     */
+    private static final ClassValue<Type<?, ?>> types = new ClassValue<Type<?, ?>>() {
+        @Override
+        protected Type<?, ?> computeValue(Class<?> cls) {
+            TypeName name = urls.get(cls)
+                                .toName();
+            Type<?, ?> type = KnownTypes.instance()
+                                        .find(name)
+                                        .orElseThrow(() -> new UnknownTypeException(name.value()));
+            return type;
+        }
+    };
+
+    /**
+     * Prevents the utility class instantiation.
+     */
+    private ClassTypes() {
+    }
+
+    /**
+     * Obtains the type URL of the given message class.
+     */
+    static TypeUrl urlOf(Class<? extends Message> cls) {
+        return urls.get(cls);
+    }
+
+    /**
+     * Obtains the known type of the given message class.
+     *
+     * @throws UnknownTypeException if the type is not known
+     */
+    static Type<?, ?> typeOf(Class<? extends Message> cls) throws UnknownTypeException {
+        return types.get(cls);
+    }
+}
@@ -20,24 +20,30 @@
 
 package io.spine.type;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.annotations.Immutable;
+import com.google.errorprone.annotations.concurrent.LazyInit;
 import com.google.protobuf.Any;
 import com.google.protobuf.Message;
 import com.google.protobuf.util.JsonFormat;
 import io.spine.annotation.Internal;
-import io.spine.code.proto.FileSet;
 import io.spine.code.proto.Type;
+import io.spine.code.proto.TypeIndex;
 import io.spine.code.proto.TypeSet;
 import io.spine.security.InvocationGuard;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.Serializable;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.util.stream.Collectors.toSet;
+import static com.google.common.collect.Maps.newLinkedHashMap;
 
 /**
  * All Protobuf types known to the application.
@@ -59,6 +65,9 @@ import static java.util.stream.Collectors.toSet;
  * </pre>
  *
  * <p>In the snippet above, {@code oldTypes} contains a subset or is equal to the {@code newTypes}.
+ *
+ * <p>The types loaded from the classpath are {@linkplain TypeIndex indexed} by name when
+ * they are first requested. Their files are linked only when the types are requested.
  */
 @Internal
 @Immutable
@@ -66,8 +75,42 @@ public class KnownTypes implements Serializable {
 
     private static final long serialVersionUID = 0L;
 
+    /**
+     * The maximum number of the cached results of each kind of the URL queries.
+     */
+    private static final int MAX_CACHED_QUERIES = 1024;
+
+    /**
+     * The types added by {@link Holder#extendWith(TypeSet)}.
+     */
     @SuppressWarnings("TransientFieldNotInitialized") // Instance is substituted on deserialization.
-    private final transient TypeSet typeSet;
+    private final transient TypeLayers moreTypes;
+
+    /**
+     * The URLs of all the known types, collected on the first request.
+     */
+    @LazyInit
+    private transient volatile @Nullable ImmutableSet<TypeUrl> allUrls;
+
+    /**
+     * The URLs of the types of the requested packages.
+     */
+    @SuppressWarnings({
+            "Immutable", // Caches the results of the queries.
+            "TransientFieldNotInitialized" // Instance is substituted on deserialization.
+    })
+    private final transient ConcurrentMap<String, ImmutableSet<TypeUrl>> packageUrls =
+            newQueryCache();
+
+    /**
+     * The URLs of the types with the requested name prefixes.
+     */
+    @SuppressWarnings({
+            "Immutable", // Caches the results of the queries.
+            "TransientFieldNotInitialized" // Instance is substituted on deserialization.
+    })
+    private final transient ConcurrentMap<String, ImmutableSet<TypeUrl>> prefixUrls =
+            newQueryCache();
 
     /**
      * Retrieves the singleton instance of {@code KnownTypes}.
@@ -77,32 +120,39 @@ public class KnownTypes implements Serializable {
     }
 
     private KnownTypes() {
-        this(load());
+        this(TypeLayers.empty());
     }
 
-    private KnownTypes(TypeSet types) {
-        this.typeSet = checkNotNull(types);
+    private KnownTypes(TypeLayers moreTypes) {
+        this.moreTypes = checkNotNull(moreTypes);
     }
 
-    private Object readResolve() {
-        return new KnownTypes();
+    private static ConcurrentMap<String, ImmutableSet<TypeUrl>> newQueryCache() {
+        return CacheBuilder.newBuilder()
+                           .maximumSize(MAX_CACHED_QUERIES)
+                           .<String, ImmutableSet<TypeUrl>>build()
+                           .asMap();
     }
 
-    private Set<Type<?, ?>> types() {
-        return typeSet.types();
+    /**
+     * Obtains the index of the types loaded from the classpath.
+     */
+    private static TypeIndex index() {
+        return ClasspathIndex.INSTANCE;
     }
 
-    private TypeSet typeSet() {
-        return typeSet;
+    private Object readResolve() {
+        return new KnownTypes();
     }
 
     /**
-     * Loads known types from the classpath.
+     * Obtains all the known types.
+     *
+     * <p>Links all the files loaded from the classpath.
      */
-    private static TypeSet load() {
-        FileSet protoDefinitions = FileSet.load();
-        TypeSet types = TypeSet.messagesAndEnums(protoDefinitions);
-        return types;
+    private TypeSet typeSet() {
+        return index().allTypes()
+                    .union(moreTypes.toSet());
     }
 
     /**
@@ -123,11 +173,17 @@ public class KnownTypes implements Serializable {
 
     /**
      * Retrieves Protobuf type URLs known to the application.
+     *
+     * <p>The URLs are collected once per instance. Does not link any files.
      */
     public Set<TypeUrl> getAllUrls() {
-        return types().stream()
-                      .map(Type::url)
-                      .collect(toSet());
+        ImmutableSet<TypeUrl> result = allUrls;
+        if (result == null) {
+            result = urlsOf(index().packages()
+                                   .all(), moreTypes.withPrefix(""));
+            allUrls = result;
+        }
+        return result;
     }
 
     /**
@@ -137,23 +193,73 @@ public class KnownTypes implements Serializable {
      * <p>The resulting registry contains all the known Protobuf message types.
      */
     public JsonFormat.TypeRegistry typeRegistry() {
-        return typeSet.toJsonPrinterRegistry();
+        return typeSet().toJsonPrinterRegistry();
     }
 
     /**
      * Retrieves all the types that belong to the given package or its subpackages.
      *
+     * <p>The URLs of a package are collected once per instance. Does not link any files.
+     *
      * @param packageName proto package name
      * @return set of {@link TypeUrl TypeUrl}s of types that belong to the given package
      */
     public Set<TypeUrl> getAllFromPackage(String packageName) {
-        Set<TypeUrl> result = getAllUrls().stream()
-                                          .filter(url -> url.toName()
-                                                            .belongsTo(packageName))
-                                          .collect(toSet());
+        checkNotNull(packageName);
+        ImmutableSet<TypeUrl> result = packageUrls.get(packageName);
+        if (result == null) {
+            result = urlsOf(index().packages()
+                                   .inPackage(packageName), moreTypes.inPackage(packageName));
+            ImmutableSet<TypeUrl> existing = packageUrls.putIfAbsent(packageName, result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
         return result;
     }
 
+    /**
+     * Retrieves all the types which names start with the given prefix.
+     *
+     * <p>Unlike {@link #getAllFromPackage(String)}, the prefix does not have to be a whole
+     * package name. For example, the prefix {@code "spine.test.ty"} matches the types of
+     * the {@code spine.test.types} package.
+     *
+     * <p>The URLs of a prefix are collected once per instance. Does not link any files.
+     *
+     * @param typeNamePrefix the beginning of the full type names
+     * @return set of {@link TypeUrl TypeUrl}s of the matching types
+     */
+    public Set<TypeUrl> getAllWithPrefix(String typeNamePrefix) {
+        checkNotNull(typeNamePrefix);
+        ImmutableSet<TypeUrl> result = prefixUrls.get(typeNamePrefix);
+        if (result == null) {
+            result = urlsOf(index().packages()
+                                   .withPrefix(typeNamePrefix),
+                            moreTypes.withPrefix(typeNamePrefix));
+            ImmutableSet<TypeUrl> existing = prefixUrls.putIfAbsent(typeNamePrefix, result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Combines the URLs of the types loaded from the classpath and the added types.
+     *
+     * <p>An added type hides the classpath type with the same name.
+     *
+     * @param urls     the URLs of the classpath types by their names
+     * @param moreUrls the URLs of the added types by their names
+     */
+    private static ImmutableSet<TypeUrl> urlsOf(Map<TypeName, TypeUrl> urls,
+                                                Map<TypeName, TypeUrl> moreUrls) {
+        Map<TypeName, TypeUrl> combined = newLinkedHashMap(moreUrls);
+        urls.forEach(combined::putIfAbsent);
+        return ImmutableSet.copyOf(combined.values());
+    }
+
     /**
      * Shows if the given {@link TypeUrl} is known the system.
      *
@@ -162,23 +268,40 @@ public class KnownTypes implements Serializable {
      */
     public boolean contains(TypeUrl typeUrl) {
         TypeName name = typeUrl.toName();
-        boolean result = typeSet().contains(name);
+        boolean result = moreTypes.contains(name) || index().contains(name);
         return result;
     }
 
     /**
      * Finds a {@link Type} by its name.
      *
-     * @see TypeSet#find(TypeName)
+     * <p>Links the file declaring the type, if it is not linked yet.
      */
     Optional<Type<?, ?>> find(TypeName typeName) {
-        Optional<Type<?, ?>> type = typeSet().find(typeName);
+        Optional<Type<?, ?>> type = moreTypes.find(typeName);
+        if (!type.isPresent()) {
+            type = index().find(typeName);
+        }
         return type;
     }
 
+    /**
+     * Obtains the {@link Type} of the given message class.
+     *
+     * <p>The type is found once per class and then reused.
+     *
+     * @param cls the class of the messages
+     * @return the type of the messages
+     * @throws UnknownTypeException if the type is not known to the application
+     */
+    public Type<?, ?> typeOf(Class<? extends Message> cls) throws UnknownTypeException {
+        checkNotNull(cls);
+        Type<?, ?> result = ClassTypes.typeOf(cls);
+        return result;
+    }
+
     private Type get(TypeName name) throws UnknownTypeException {
-        Type result = typeSet().find(name)
-                               .orElseThrow(() -> new UnknownTypeException(name.value()));
+        Type result = find(name).orElseThrow(() -> new UnknownTypeException(name.value()));
         return result;
     }
 
@@ -198,7 +321,13 @@ public class KnownTypes implements Serializable {
          */
         private static final Lock lock = new ReentrantLock(false);
 
-        private static KnownTypes instance = new KnownTypes();
+        /**
+         * The current instance.
+         *
+         * <p>Readers never take the lock. Each instance is immutable, so a reader always
+         * sees a consistent set of types.
+         */
+        private static volatile KnownTypes instance = new KnownTypes();
 
         /**
          * Prevents the utility class instantiation.
@@ -219,6 +348,9 @@ public class KnownTypes implements Serializable {
          * <p>This method should never be called in a client code. The sole purpose of extending
          * the known types is for running compile-time checks on the user types.
          *
+         * <p>The cost of the call is proportional to the number of the added types, as
+         * the previously added types are mostly shared with the new instance.
+         *
          * @throws java.lang.SecurityException if called from the client code
          */
         @Internal
@@ -227,11 +359,28 @@ public class KnownTypes implements Serializable {
 
             lock.lock();
             try {
-                TypeSet newKnownTypes = instance.typeSet.union(moreKnownTypes);
+                TypeLayers newKnownTypes = instance.moreTypes.with(moreKnownTypes);
                 instance = new KnownTypes(newKnownTypes);
             } finally {
                 lock.unlock();
             }
         }
     }
+
+    /**
+     * A holder of the index of the types loaded from the classpath.
+     *
+     * <p>The classpath is read when the index is first accessed, not when the {@code KnownTypes}
+     * are created.
+     */
+    private static final class ClasspathIndex {
+
+        private static final TypeIndex INSTANCE = TypeIndex.load();
+
+        /**
+         * Prevents the utility class instantiation.
+         */
+        private ClasspathIndex() {
+        }
+    }
 }
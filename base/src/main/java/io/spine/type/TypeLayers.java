@@ -0,0 +1,193 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.type;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Immutable;
+import io.spine.code.proto.PackageIndex;
+import io.spine.code.proto.Type;
+import io.spine.code.proto.TypeSet;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.google.common.collect.Maps.newLinkedHashMap;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * The types added to the {@link KnownTypes} at runtime.
+ *
+ * <p>Each added batch of types becomes a layer. When a layer is not larger than the layer
+ * added after it, the two are merged. So the sizes of the layers decrease from the oldest to
+ * the newest one, and there are at most logarithmically many layers. Adding a batch copies
+ * only the layers it is merged with, so the amortized cost is proportional to the size of
+ * the batch.
+ *
+ * <p>Instances are immutable and share the layers which are not merged.
+ */
+@Immutable
+final class TypeLayers {
+
+    private static final TypeLayers EMPTY = new TypeLayers(ImmutableList.of());
+
+    /**
+     * The layers from the newest to the oldest one.
+     */
+    private final ImmutableList<Layer> layers;
+
+    private TypeLayers(ImmutableList<Layer> layers) {
+        this.layers = layers;
+    }
+
+    /**
+     * Obtains the instance without types.
+     */
+    static TypeLayers empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates new layers with the given types added.
+     *
+     * <p>The added types replace the types with the same names added before.
+     */
+    TypeLayers with(TypeSet types) {
+        if (types.isEmpty()) {
+            return this;
+        }
+        Layer added = Layer.of(types);
+        int merged = 0;
+        for (Layer layer : layers) {
+            if (layer.size() > added.size()) {
+                break;
+            }
+            added = layer.mergeWith(added);
+            merged++;
+        }
+        ImmutableList<Layer> newLayers = ImmutableList.<Layer>builder()
+                                                      .add(added)
+                                                      .addAll(layers.subList(merged,
+                                                                             layers.size()))
+                                                      .build();
+        return new TypeLayers(newLayers);
+    }
+
+    /**
+     * Finds a type by its name.
+     *
+     * <p>Looks through the layers from the newest to the oldest one.
+     */
+    Optional<Type<?, ?>> find(TypeName name) {
+        for (Layer layer : layers) {
+            Optional<Type<?, ?>> found = layer.types.find(name);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Checks if a type with the given name is present.
+     */
+    boolean contains(TypeName name) {
+        return find(name).isPresent();
+    }
+
+    /**
+     * Obtains all the types in a single set.
+     */
+    TypeSet toSet() {
+        TypeSet.Builder result = TypeSet.newBuilder();
+        for (Layer layer : layers.reverse()) {
+            result.addAll(layer.types);
+        }
+        return result.build();
+    }
+
+    /**
+     * Obtains the URLs of the types declared in the given package or its subpackages.
+     *
+     * @return the URLs by the type names
+     */
+    Map<TypeName, TypeUrl> inPackage(String packageName) {
+        return urls(index -> index.inPackage(packageName));
+    }
+
+    /**
+     * Obtains the URLs of the types which names start with the given prefix.
+     *
+     * @return the URLs by the type names
+     */
+    Map<TypeName, TypeUrl> withPrefix(String prefix) {
+        return urls(index -> index.withPrefix(prefix));
+    }
+
+    /**
+     * Queries the layers from the newest to the oldest one.
+     *
+     * <p>A type found in a newer layer hides the type with the same name in the older ones.
+     */
+    private Map<TypeName, TypeUrl> urls(Function<PackageIndex, Map<TypeName, TypeUrl>> query) {
+        Map<TypeName, TypeUrl> result = newLinkedHashMap();
+        for (Layer layer : layers) {
+            query.apply(layer.names)
+                 .forEach(result::putIfAbsent);
+        }
+        return result;
+    }
+
+    /**
+     * A batch of types along with the index of their names.
+     */
+    @Immutable
+    private static final class Layer {
+
+        private final TypeSet types;
+        private final PackageIndex names;
+
+        private Layer(TypeSet types, PackageIndex names) {
+            this.types = types;
+            this.names = names;
+        }
+
+        private static Layer of(TypeSet types) {
+            PackageIndex names = PackageIndex.of(types.types()
+                                                      .stream()
+                                                      .collect(toMap(Type::name, Type::url)));
+            return new Layer(types, names);
+        }
+
+        private int size() {
+            return types.size();
+        }
+
+        /**
+         * Merges this layer with the given newer one.
+         */
+        private Layer mergeWith(Layer newer) {
+            TypeSet mergedTypes = types.union(newer.types);
+            PackageIndex mergedNames = names.with(newer.names.all());
+            return new Layer(mergedTypes, mergedNames);
+        }
+    }
+}
@@ -79,7 +79,7 @@ public final class TypeName extends StringTypeValue {
      */
     public static TypeName from(TypeUrl typeUrl) {
         checkNotNull(typeUrl);
-        return create(typeUrl.getTypeName());
+        return typeUrl.toName();
     }
 
     /**
@@ -168,17 +168,6 @@ public final class TypeName extends StringTypeValue {
         return result;
     }
 
-    /**
-     * Verifies if the type belongs to the passed package.
-     */
-    boolean belongsTo(String packageName) {
-        String typeName = value();
-        boolean inPackage =
-                typeName.startsWith(packageName)
-                        && typeName.charAt(packageName.length()) == PACKAGE_SEPARATOR;
-        return inPackage;
-    }
-
     private Type<?, ?> type() {
         Type<?, ?> result = KnownTypes.instance()
                                       .find(this)
@@ -21,9 +21,12 @@
 package io.spine.type;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Splitter;
+import com.google.common.cache.CacheBuilder;
 import com.google.errorprone.annotations.Immutable;
+import com.google.errorprone.annotations.concurrent.LazyInit;
 import com.google.protobuf.Any;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileOptions;
 import com.google.protobuf.AnyOrBuilder;
 import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.Descriptors.EnumDescriptor;
@@ -34,14 +37,15 @@ import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
 import io.spine.code.proto.Type;
 import io.spine.option.OptionsProto;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.Serializable;
-import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.protobuf.Internal.getDefaultInstance;
+import static com.google.common.base.Preconditions.checkState;
 import static io.spine.code.proto.ProtoPackage.GOOGLE_PROTOBUF_PACKAGE;
 import static io.spine.util.Preconditions2.checkNotEmptyOrBlank;
 import static java.lang.String.format;
@@ -62,7 +66,25 @@ public final class TypeUrl implements Serializable {
 
     private static final long serialVersionUID = 0L;
     private static final String SEPARATOR = "/";
-    private static final Splitter splitter = Splitter.on(SEPARATOR);
+    private static final char SEPARATOR_CHAR = '/';
+
+    /**
+     * The maximum number of the {@linkplain #interned interned} type URLs.
+     */
+    private static final int MAX_INTERNED = 4096;
+
+    /**
+     * Canonical instances of the parsed type URLs.
+     *
+     * <p>The URLs may come from untrusted {@link Any} instances, so the number of interned
+     * URLs is bounded. The least recently used URLs are evicted first, so that the types
+     * the application deals with stay interned.
+     */
+    private static final ConcurrentMap<String, TypeUrl> interned =
+            CacheBuilder.newBuilder()
+                        .maximumSize(MAX_INTERNED)
+                        .<String, TypeUrl>build()
+                        .asMap();
 
     /** The prefix of the type URL. */
     private final String prefix;
@@ -70,16 +92,36 @@ public final class TypeUrl implements Serializable {
     /** The name of the Protobuf type. */
     private final String typeName;
 
-    private TypeUrl(String prefix, String typeName) {
+    /** The string representation of the URL. */
+    private final String value;
+
+    /** The name of the type, created along with the URL. */
+    private final TypeName name;
+
+    private final int hashCode;
+
+    /**
+     * The known type of this URL, found on the first request.
+     *
+     * <p>Once found, the type stays valid, as the known types are never forgotten.
+     */
+    @SuppressWarnings("Immutable") // Only refers to immutable types.
+    @LazyInit
+    private transient volatile @Nullable Type<?, ?> type;
+
+    private TypeUrl(String prefix, String typeName, String value) {
         this.prefix = checkNotEmptyOrBlank(prefix, typeName);
         this.typeName = checkNotEmptyOrBlank(typeName);
+        this.value = value;
+        this.name = TypeName.of(typeName);
+        this.hashCode = Objects.hash(prefix, typeName);
     }
 
     /**
      * Create new {@code TypeUrl}.
      */
     private static TypeUrl create(String prefix, String typeName) {
-        return new TypeUrl(prefix, typeName);
+        return new TypeUrl(prefix, typeName, composeTypeUrl(prefix, typeName));
     }
 
     @VisibleForTesting
@@ -120,6 +162,22 @@ public final class TypeUrl implements Serializable {
         return create(prefix, descriptor.getFullName());
     }
 
+    /**
+     * Creates a new instance for the type with the given name declared in the given file.
+     *
+     * <p>Unlike {@link #from(Descriptor)}, does not require the file to be linked.
+     *
+     * @param file     the file declaring the type
+     * @param typeName the full name of the type
+     */
+    @Internal
+    public static TypeUrl from(FileDescriptorProto file, TypeName typeName) {
+        checkNotNull(file);
+        checkNotNull(typeName);
+        String prefix = prefixFor(file.getPackage(), file.getOptions());
+        return create(prefix, typeName.value());
+    }
+
     /**
      * Creates a new instance from the passed type URL.
      *
@@ -136,17 +194,34 @@ public final class TypeUrl implements Serializable {
     }
 
     private static boolean isTypeUrl(String str) {
-        return str.contains(SEPARATOR);
+        return str.indexOf(SEPARATOR_CHAR) >= 0;
     }
 
+    /**
+     * Obtains the canonical instance for the passed type URL.
+     *
+     * <p>Parses the URL if it is not interned yet.
+     */
     private static TypeUrl doParse(String typeUrl) {
-        List<String> strings = splitter.splitToList(typeUrl);
-        if (strings.size() != 2) {
+        TypeUrl result = interned.get(typeUrl);
+        if (result != null) {
+            return result;
+        }
+        result = split(typeUrl);
+        TypeUrl existing = interned.putIfAbsent(typeUrl, result);
+        return existing != null
+               ? existing
+               : result;
+    }
+
+    private static TypeUrl split(String typeUrl) {
+        int separatorIndex = typeUrl.indexOf(SEPARATOR_CHAR);
+        if (separatorIndex < 0 || typeUrl.indexOf(SEPARATOR_CHAR, separatorIndex + 1) >= 0) {
             throw malformedTypeUrl(typeUrl);
         }
-        String prefix = strings.get(0);
-        String typeName = strings.get(1);
-        return create(prefix, typeName);
+        String prefix = typeUrl.substring(0, separatorIndex);
+        String typeName = typeUrl.substring(separatorIndex + 1);
+        return new TypeUrl(prefix, typeName, typeUrl);
     }
 
     private static IllegalArgumentException malformedTypeUrl(String typeUrl) {
@@ -167,10 +242,12 @@ public final class TypeUrl implements Serializable {
 
     /**
      * Obtains the type URL for the passed message class.
+     *
+     * <p>The URL is computed once per class.
      */
     public static TypeUrl of(Class<? extends Message> cls) {
-        Message defaultInstance = getDefaultInstance(cls);
-        TypeUrl result = of(defaultInstance);
+        checkNotNull(cls);
+        TypeUrl result = ClassTypes.urlOf(cls);
         return result;
     }
 
@@ -185,12 +262,14 @@ public final class TypeUrl implements Serializable {
      */
     private static String prefixFor(GenericDescriptor descriptor) {
         FileDescriptor file = descriptor.getFile();
-        if (file.getPackage()
-                .startsWith(GOOGLE_PROTOBUF_PACKAGE.packageName())) {
+        return prefixFor(file.getPackage(), file.getOptions());
+    }
+
+    private static String prefixFor(String protoPackage, FileOptions options) {
+        if (protoPackage.startsWith(GOOGLE_PROTOBUF_PACKAGE.packageName())) {
             return Prefix.GOOGLE_APIS.value();
         }
-        String result = file.getOptions()
-                            .getExtension(OptionsProto.typeUrlPrefix);
+        String result = options.getExtension(OptionsProto.typeUrlPrefix);
         return result;
     }
 
@@ -215,7 +294,11 @@ public final class TypeUrl implements Serializable {
      * @throws IllegalStateException if the type URL represents an enum
      */
     public <T extends Message> Class<T> getMessageClass() throws UnknownTypeException {
-        return toName().getMessageClass();
+        Class<?> cls = getJavaClass();
+        checkState(Message.class.isAssignableFrom(cls));
+        @SuppressWarnings("unchecked")
+        Class<T> result = (Class<T>) cls;
+        return result;
     }
 
     /**
@@ -252,21 +335,25 @@ public final class TypeUrl implements Serializable {
      * Converts the instance to {@code TypeName}.
      */
     public TypeName toName() {
-        return TypeName.of(typeName);
+        return name;
     }
 
     /**
      * Obtains string representation of the URL.
      */
     public String value() {
-        String result = composeTypeUrl(prefix, typeName);
-        return result;
+        return value;
     }
 
     private Type<?, ?> type() throws UnknownTypeException {
-        return KnownTypes.instance()
-                         .find(toName())
-                         .orElseThrow(() -> new UnknownTypeException(toName().value()));
+        Type<?, ?> result = type;
+        if (result == null) {
+            result = KnownTypes.instance()
+                               .find(name)
+                               .orElseThrow(() -> new UnknownTypeException(typeName));
+            type = result;
+        }
+        return result;
     }
 
     @Override
@@ -278,13 +365,14 @@ public final class TypeUrl implements Serializable {
             return false;
         }
         TypeUrl typeUrl = (TypeUrl) o;
-        return Objects.equals(prefix, typeUrl.prefix) &&
+        return hashCode == typeUrl.hashCode &&
+               Objects.equals(prefix, typeUrl.prefix) &&
                Objects.equals(typeName, typeUrl.typeName);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(prefix, typeName);
+        return hashCode;
     }
 
     /**
@@ -65,6 +65,15 @@ public abstract class AbstractValidatingBuilder<T extends Message, B extends Mes
      */
     private @Nullable T originalState;
 
+    /**
+     * The last state of the message known to be valid.
+     *
+     * <p>When the message is built, only the fields differing from this state are validated.
+     * Has {@code null} value until the first successful {@linkplain #build() build} or until
+     * the {@linkplain #setOriginalState(Message) original state} known to be valid is set.
+     */
+    private @Nullable T validState;
+
     protected AbstractValidatingBuilder() {
         this.messageClass = TypeInfo.getMessageClass(getClass());
         this.messageBuilder = createBuilder();
@@ -171,6 +180,9 @@ public abstract class AbstractValidatingBuilder<T extends Message, B extends Mes
     public void setOriginalState(T state) {
         checkNotNull(state);
         this.originalState = state;
+        if (ValidMessages.isKnown(state)) {
+            this.validState = state;
+        }
 
         messageBuilder.clear();
         messageBuilder.mergeFrom(state);
@@ -209,10 +221,23 @@ public abstract class AbstractValidatingBuilder<T extends Message, B extends Mes
         return result;
     }
 
+    /**
+     * Validates the built message.
+     *
+     * <p>If a valid state of the message is known, only the fields changed since then are
+     * validated. Otherwise, the whole message is validated.
+     */
     private void validateResult(T message) throws ValidationException {
-        List<ConstraintViolation> violations = MessageValidator.newInstance()
-                                                               .validate(message);
-        checkViolations(violations);
+        MessageValidator validator = MessageValidator.newInstance();
+        if (validState != null) {
+            List<ConstraintViolation> violations = validator.validateChanged(message, validState);
+            checkViolations(violations);
+        } else {
+            List<ConstraintViolation> violations = validator.checkAndValidate(message);
+            checkViolations(violations);
+        }
+        validState = message;
+        ValidMessages.remember(message);
     }
 
     private static void checkViolations(List<ConstraintViolation> violations)
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Message;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Validates a batch of messages with a {@link MessageValidator}.
+ *
+ * <p>The validation metadata of a message type, such as its {@linkplain ValidationPlan plan}
+ * and {@linkplain GeneratedValidator generated validator}, is resolved once per batch,
+ * when the first message of the type is validated.
+ *
+ * <p>The instances are safe to use concurrently.
+ */
+final class BatchValidation {
+
+    /**
+     * The number of chunks per an available processor when validating with an executor.
+     *
+     * <p>More chunks than processors let the executor balance the load if some messages take
+     * longer to validate than others.
+     */
+    private static final int CHUNKS_PER_PROCESSOR = 4;
+
+    private final MessageValidator validator;
+    private final ConcurrentMap<Descriptor, TypeSetup> setups = new ConcurrentHashMap<>();
+
+    BatchValidation(MessageValidator validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * Validates the message reusing the metadata resolved for its type in this batch.
+     */
+    List<ConstraintViolation> validate(Message message) {
+        TypeSetup setup = setupFor(message);
+        List<ConstraintViolation> result =
+                validator.validate(message, setup.budget(), setup.plan, setup.generated);
+        return result;
+    }
+
+    /**
+     * Validates the messages one by one.
+     */
+    ImmutableList<List<ConstraintViolation>> validateAll(Iterable<? extends Message> messages) {
+        ImmutableList.Builder<List<ConstraintViolation>> result = ImmutableList.builder();
+        for (Message message : messages) {
+            result.add(validate(message));
+        }
+        return result.build();
+    }
+
+    /**
+     * Validates the chunks of messages concurrently using the given executor.
+     */
+    ImmutableList<List<ConstraintViolation>>
+    validateAll(Iterable<? extends Message> messages, Executor executor) {
+        List<? extends Message> list = newArrayList(messages);
+        int size = list.size();
+        @SuppressWarnings("unchecked") // OK, as the array elements are only assigned once.
+        List<ConstraintViolation>[] results = new List[size];
+        int chunks = Runtime.getRuntime()
+                            .availableProcessors() * CHUNKS_PER_PROCESSOR;
+        int chunkSize = max(1, size / chunks);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int from = 0; from < size; from += chunkSize) {
+            int start = from;
+            int end = min(size, from + chunkSize);
+            futures.add(CompletableFuture.runAsync(() -> validateChunk(list, start, end, results),
+                                                   executor));
+        }
+        awaitAll(futures);
+        return ImmutableList.copyOf(results);
+    }
+
+    private void validateChunk(List<? extends Message> messages,
+                               int from,
+                               int to,
+                               List<ConstraintViolation>[] results) {
+        for (int i = from; i < to; i++) {
+            results[i] = validate(messages.get(i));
+        }
+    }
+
+    /**
+     * Waits until all the passed futures complete.
+     *
+     * <p>If any of the futures fails with a runtime exception, rethrows it as is.
+     */
+    private static void awaitAll(List<CompletableFuture<Void>> futures) {
+        CompletableFuture<?>[] all = futures.toArray(new CompletableFuture<?>[0]);
+        try {
+            CompletableFuture.allOf(all)
+                             .join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    private TypeSetup setupFor(Message message) {
+        Descriptor type = message.getDescriptorForType();
+        TypeSetup existing = setups.get(type);
+        if (existing != null && existing.messageClass == message.getClass()) {
+            return existing;
+        }
+        TypeSetup created = new TypeSetup(message, validator);
+        if (existing == null) {
+            TypeSetup previous = setups.putIfAbsent(type, created);
+            if (previous != null && previous.messageClass == message.getClass()) {
+                return previous;
+            }
+        }
+        return created;
+    }
+
+    /**
+     * The validation metadata of a message type resolved for a batch.
+     *
+     * <p>The generated validator depends on the class of a message, which may differ
+     * for the messages of the same type, e.g. if some of them are
+     * {@linkplain com.google.protobuf.DynamicMessage dynamic}. So, the setup
+     * remembers the class it was resolved for.
+     */
+    private static final class TypeSetup {
+
+        private final Class<?> messageClass;
+        private final ValidationPlan plan;
+        private final @Nullable GeneratedValidator<Message> generated;
+
+        private TypeSetup(Message message, MessageValidator validator) {
+            this.messageClass = message.getClass();
+            this.plan = ValidationPlan.of(message.getDescriptorForType());
+            this.generated = validator.findGenerated(message);
+        }
+
+        /**
+         * Creates a new budget for a validation of a message of the type.
+         */
+        private ValidationBudget budget() {
+            return ValidationBudget.of(ValidationOptions.defaults(), plan);
+        }
+    }
+}
@@ -66,6 +66,6 @@ class ByteStringFieldValidator extends FieldValidator<ByteString> {
                 .setMsgFormat(INVALID_ID_TYPE_MSG)
                 .setFieldPath(getFieldPath())
                 .build();
-        addViolation(violation);
+        addViolation(violation, ENTITY_ID);
     }
 }
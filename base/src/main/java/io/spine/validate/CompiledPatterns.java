@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.validate;
+
+import com.google.common.cache.CacheBuilder;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A bounded cache of compiled regular expressions used by the {@code (pattern)} option.
+ *
+ * <p>A regular expression which fails to compile is not cached.
+ */
+final class CompiledPatterns {
+
+    /**
+     * The maximum number of compiled expressions to keep.
+     */
+    private static final int MAX_SIZE = 1024;
+
+    private static final ConcurrentMap<Key, Pattern> cache =
+            CacheBuilder.newBuilder()
+                        .maximumSize(MAX_SIZE)
+                        .<Key, Pattern>build()
+                        .asMap();
+
+    /** Prevents instantiation of this utility class. */
+    private CompiledPatterns() {
+    }
+
+    /**
+     * Obtains the compiled pattern for the passed regular expression and flags.
+     *
+     * @param regex the regular expression
+     * @param flags the {@linkplain Pattern#flags() match flags} of the expression
+     * @return the compiled pattern
+     * @throws PatternSyntaxException if the expression cannot be compiled
+     * @throws IllegalArgumentException if the flags are invalid
+     */
+    static Pattern compile(String regex, int flags) {
+        checkNotNull(regex);
+        Key key = new Key(regex, flags);
+        Pattern existing = cache.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        Pattern compiled = Pattern.compile(regex, flags);
+        Pattern previous = cache.putIfAbsent(key, compiled);
+        return previous != null
+               ? previous
+               : compiled;
+    }
+
+    /**
+     * A regular expression along with its flags.
+     */
+    private static final class Key {
+
+        private final String regex;
+        private final int flags;
+
+        private Key(String regex, int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key other = (Key) o;
+            return flags == other.flags && regex.equals(other.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * regex.hashCode() + flags;
+        }
+    }
+}
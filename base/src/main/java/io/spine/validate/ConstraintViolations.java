@@ -26,11 +26,14 @@ import com.google.protobuf.Value;
 import io.spine.annotation.Internal;
 import io.spine.base.Error;
 import io.spine.type.MessageClass;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.List;
+import java.io.IOException;
 import java.util.Map;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
 import static java.lang.String.format;
 import static java.lang.System.lineSeparator;
 
@@ -55,16 +58,9 @@ public class ConstraintViolations {
      */
     public static String toText(ConstraintViolation violation) {
         checkNotNull(violation);
-
-        String format = violation.getMsgFormat();
-        List<String> params = violation.getParamList();
-        String parentViolationFormatted = format(format, params.toArray());
-
-        StringBuilder resultBuilder = new StringBuilder(parentViolationFormatted);
-        if (violation.getViolationCount() > 0) {
-            resultBuilder.append(toText(violation.getViolationList()));
-        }
-        return resultBuilder.toString();
+        StringBuilder result = new StringBuilder();
+        appendUnchecked(result, out -> write(violation, null, out));
+        return result.toString();
     }
 
     /**
@@ -78,15 +74,44 @@ public class ConstraintViolations {
      */
     public static String toText(Iterable<ConstraintViolation> violations) {
         checkNotNull(violations);
+        StringBuilder result = new StringBuilder();
+        appendUnchecked(result, out -> writeList(violations, null, out));
+        return result.toString();
+    }
 
-        StringBuilder resultBuilder = new StringBuilder("Violation list:");
+    /**
+     * Returns the beginning of the {@linkplain #toText(Iterable) text} of the violations.
+     *
+     * <p>Stops formatting the violations as soon as the text reaches the given length.
+     * Serves for reporting large violation trees, when the full text is not needed.
+     *
+     * @param violations the violations to format
+     * @param maxLength  the maximum length of the text
+     * @return the text, which is the same as the one returned by {@link #toText(Iterable)}
+     *         if it fits the given length, or its beginning otherwise
+     */
+    public static String toText(Iterable<ConstraintViolation> violations, int maxLength) {
+        checkNotNull(violations);
+        checkArgument(maxLength >= 0, "The max length must not be negative: %s.", maxLength);
+        CappedText result = new CappedText(maxLength);
+        appendUnchecked(result, out -> writeList(violations, null, out));
+        return result.toString();
+    }
 
-        for (ConstraintViolation childViolation : violations) {
-            String childViolationFormatted = toText(childViolation);
-            resultBuilder.append(lineSeparator())
-                         .append(childViolationFormatted);
-        }
-        return resultBuilder.toString();
+    /**
+     * Writes the {@linkplain #toText(Iterable) text} of the violations to the given output.
+     *
+     * <p>Unlike {@link #toText(Iterable)}, does not accumulate the text in memory.
+     *
+     * @param violations the violations to format
+     * @param out        the output to write to
+     * @throws IOException if the output fails
+     */
+    public static void writeText(Iterable<ConstraintViolation> violations, Appendable out)
+            throws IOException {
+        checkNotNull(violations);
+        checkNotNull(out);
+        writeList(violations, null, out);
     }
 
     /**
@@ -102,16 +127,10 @@ public class ConstraintViolations {
     public static String toText(String format, ConstraintViolation violation) {
         checkNotNull(format);
         checkNotNull(violation);
-
-        List<String> params = violation.getParamList();
-        String parentViolationFormatted = format(format, params.toArray());
-
-        StringBuilder resultBuilder = new StringBuilder(parentViolationFormatted);
-        if (violation.getViolationCount() > 0) {
-            resultBuilder.append(toText(format, violation.getViolationList()));
-        }
-
-        return resultBuilder.toString();
+        MsgTemplate template = MsgTemplate.of(format);
+        StringBuilder result = new StringBuilder();
+        appendUnchecked(result, out -> write(violation, template, out));
+        return result.toString();
     }
 
     /**
@@ -127,15 +146,114 @@ public class ConstraintViolations {
     public static String toText(String format, Iterable<ConstraintViolation> violations) {
         checkNotNull(format);
         checkNotNull(violations);
+        MsgTemplate template = MsgTemplate.of(format);
+        StringBuilder result = new StringBuilder();
+        appendUnchecked(result, out -> writeList(violations, template, out));
+        return result.toString();
+    }
+
+    /**
+     * Writes the formatted violation and the violations nested in it.
+     *
+     * @param violation the violation to write
+     * @param template  the format to use instead of the formats of the violations, if any
+     * @param out       the output to write to
+     */
+    private static void write(ConstraintViolation violation,
+                              @Nullable MsgTemplate template,
+                              Appendable out) throws IOException {
+        MsgTemplate ownTemplate = template != null
+                                  ? template
+                                  : MsgTemplate.of(violation.getMsgFormat());
+        ownTemplate.appendTo(violation.getParamList(), out);
+        if (violation.getViolationCount() > 0) {
+            writeList(violation.getViolationList(), template, out);
+        }
+    }
+
+    private static void writeList(Iterable<ConstraintViolation> violations,
+                                  @Nullable MsgTemplate template,
+                                  Appendable out) throws IOException {
+        out.append(template != null
+                   ? "Violations:"
+                   : "Violation list:");
+        for (ConstraintViolation violation : violations) {
+            if (isFull(out)) {
+                return;
+            }
+            out.append(lineSeparator());
+            write(violation, template, out);
+        }
+    }
 
-        StringBuilder resultBuilder = new StringBuilder("Violations:");
+    private static boolean isFull(Appendable out) {
+        return out instanceof CappedText && ((CappedText) out).isFull();
+    }
+
+    /**
+     * Performs the write to an in-memory output, which never throws {@code IOException}.
+     */
+    private static void appendUnchecked(Appendable out, TextWrite write) {
+        try {
+            write.writeTo(out);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * A write of a text to an {@link Appendable}.
+     */
+    @FunctionalInterface
+    private interface TextWrite {
+
+        void writeTo(Appendable out) throws IOException;
+    }
+
+    /**
+     * An in-memory text, which ignores everything appended after it reaches the maximum
+     * length.
+     */
+    private static final class CappedText implements Appendable {
+
+        private final int maxLength;
+        private final StringBuilder text = new StringBuilder();
+
+        private CappedText(int maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        private boolean isFull() {
+            return text.length() >= maxLength;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            int available = maxLength - text.length();
+            int length = Math.min(end - start, available);
+            if (length > 0) {
+                text.append(csq, start, start + length);
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            if (!isFull()) {
+                text.append(c);
+            }
+            return this;
+        }
 
-        for (ConstraintViolation childViolation : violations) {
-            String childViolationFormatted = toText(format, childViolation);
-            resultBuilder.append(lineSeparator())
-                         .append(childViolationFormatted);
+        @Override
+        public String toString() {
+            return text.toString();
         }
-        return resultBuilder.toString();
     }
 
     /**
@@ -211,16 +329,14 @@ public class ConstraintViolations {
             R errorCode = getErrorCode();
             String typeName = errorCode.getDescriptorForType()
                                        .getFullName();
-            String errorTextTemplate = getErrorText();
-            String errorText = format("%s %s",
-                                      errorTextTemplate,
-                                      toText(constraintViolations));
+            StringBuilder errorText = new StringBuilder(getErrorText()).append(' ');
+            appendUnchecked(errorText, out -> writeList(constraintViolations, null, out));
 
             Error.Builder error = Error.newBuilder()
                                        .setType(typeName)
                                        .setCode(errorCode.getNumber())
                                        .setValidationError(validationError)
-                                       .setMessage(errorText)
+                                       .setMessage(errorText.toString())
                                        .putAllAttributes(getMessageTypeAttribute(message));
             return error.build();
         }
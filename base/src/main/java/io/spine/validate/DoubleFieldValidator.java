@@ -20,8 +20,6 @@
 
 package io.spine.validate;
 
-import static java.lang.Math.abs;
-
 /**
  * Validates fields of {@link Double} types.
  */
@@ -36,16 +34,4 @@ final class DoubleFieldValidator extends FloatFieldValidatorBase<Double> {
     DoubleFieldValidator(FieldContext fieldContext, Object fieldValues) {
         super(fieldContext, FieldValidator.toValueList(fieldValues));
     }
-
-    @Override
-    protected Double toNumber(String value) {
-        Double min = Double.valueOf(value);
-        return min;
-    }
-
-    @Override
-    protected Double getAbs(Double value) {
-        Double abs = abs(value);
-        return abs;
-    }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.validate;
+
+import com.google.protobuf.DescriptorProtos.FieldOptions;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import com.google.protobuf.GeneratedMessage.GeneratedExtension;
+import io.spine.option.DecimalMaxOption;
+import io.spine.option.DecimalMinOption;
+import io.spine.option.DigitsOption;
+import io.spine.option.IfInvalidOption;
+import io.spine.option.IfMissingOption;
+import io.spine.option.MaxOption;
+import io.spine.option.MinOption;
+import io.spine.option.OptionsProto;
+import io.spine.option.PatternOption;
+import io.spine.option.TimeOption;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * Validation options of a field resolved from its {@link FieldOptions}.
+ *
+ * <p>The options are read once, when the instance is created, so that validators do not
+ * query the extensions of the field on each validation.
+ */
+final class FieldConstraints {
+
+    private final FieldOptions options;
+
+    private final boolean required;
+    private final IfMissingOption ifMissing;
+    private final boolean valid;
+    private final IfInvalidOption ifInvalid;
+    private final PatternOption pattern;
+    private final @Nullable Pattern compiledPattern;
+
+    /**
+     * The reason why the {@linkplain #pattern pattern} cannot be compiled or {@code null}
+     * if the pattern is compiled or is not set.
+     */
+    private final @Nullable IllegalArgumentException patternError;
+
+    /**
+     * The full name of the field to report if the pattern cannot be compiled.
+     */
+    private final String fieldName;
+    private final MinOption min;
+    private final MaxOption max;
+    private final DecimalMinOption decimalMin;
+    private final DecimalMaxOption decimalMax;
+    private final DigitsOption digits;
+    private final TimeOption when;
+
+    /**
+     * The lazily parsed numeric bounds.
+     *
+     * <p>Is not volatile, as the bounds are immutable and parsing them twice is harmless.
+     */
+    @SuppressWarnings("FieldAccessedSynchronizedAndUnsynchronized") // See above.
+    private @Nullable NumberBounds numberBounds;
+
+    private FieldConstraints(FieldDescriptor field, FieldOptions options) {
+        this.options = options;
+        this.required = options.getExtension(OptionsProto.required);
+        this.ifMissing = options.getExtension(OptionsProto.ifMissing);
+        this.valid = options.getExtension(OptionsProto.valid);
+        this.ifInvalid = options.getExtension(OptionsProto.ifInvalid);
+        this.pattern = options.getExtension(OptionsProto.pattern);
+        this.fieldName = field.getFullName();
+        Pattern compiled = null;
+        IllegalArgumentException error = null;
+        try {
+            compiled = compile(pattern);
+        } catch (IllegalArgumentException e) {
+            error = e;
+        }
+        this.compiledPattern = compiled;
+        this.patternError = error;
+        this.min = options.getExtension(OptionsProto.min);
+        this.max = options.getExtension(OptionsProto.max);
+        this.decimalMin = options.getExtension(OptionsProto.decimalMin);
+        this.decimalMax = options.getExtension(OptionsProto.decimalMax);
+        this.digits = options.getExtension(OptionsProto.digits);
+        this.when = options.getExtension(OptionsProto.when);
+    }
+
+    /**
+     * Resolves the validation constraints declared in the passed options.
+     *
+     * @param field   the field to which the options apply
+     * @param options the options declared for the field either directly or
+     *                via a validation rule
+     */
+    static FieldConstraints of(FieldDescriptor field, FieldOptions options) {
+        checkNotNull(field);
+        checkNotNull(options);
+        return new FieldConstraints(field, options);
+    }
+
+    /**
+     * Compiles the regular expression of the option.
+     *
+     * @throws IllegalArgumentException if the expression or its flags are invalid
+     */
+    private static @Nullable Pattern compile(PatternOption option) {
+        String regex = option.getRegex();
+        if (regex.isEmpty()) {
+            return null;
+        }
+        Pattern result = CompiledPatterns.compile(regex, option.getFlag());
+        return result;
+    }
+
+    /**
+     * Obtains the value of an arbitrary field option.
+     *
+     * <p>Use the dedicated getters for the validation options.
+     */
+    <T> T option(GeneratedExtension<FieldOptions, T> extension) {
+        T result = options.getExtension(extension);
+        return result;
+    }
+
+    boolean required() {
+        return required;
+    }
+
+    IfMissingOption ifMissing() {
+        return ifMissing;
+    }
+
+    boolean valid() {
+        return valid;
+    }
+
+    IfInvalidOption ifInvalid() {
+        return ifInvalid;
+    }
+
+    PatternOption pattern() {
+        return pattern;
+    }
+
+    /**
+     * Obtains the compiled regular expression of the {@linkplain #pattern() pattern option}.
+     *
+     * <p>The expression is compiled once, when the constraints are resolved. If it cannot be
+     * compiled, the failure is remembered and reported on each request, so that the values
+     * of the field are never accepted unchecked.
+     *
+     * @return the compiled expression or {@code null} if the option is not set
+     * @throws IllegalStateException if the expression or its flags are invalid
+     */
+    @Nullable Pattern compiledPattern() {
+        if (patternError != null) {
+            throw newIllegalStateException(
+                    patternError,
+                    "The regular expression `%s` with flags `%s` of the `(pattern)` option " +
+                    "of the field `%s` cannot be compiled.",
+                    pattern.getRegex(), pattern.getFlag(), fieldName);
+        }
+        return compiledPattern;
+    }
+
+    MinOption min() {
+        return min;
+    }
+
+    MaxOption max() {
+        return max;
+    }
+
+    DecimalMinOption decimalMin() {
+        return decimalMin;
+    }
+
+    DecimalMaxOption decimalMax() {
+        return decimalMax;
+    }
+
+    DigitsOption digits() {
+        return digits;
+    }
+
+    TimeOption when() {
+        return when;
+    }
+
+    /**
+     * Obtains the numeric constraints parsed for a field of the given type.
+     *
+     * <p>The constraints are parsed when requested for the first time.
+     *
+     * @param type the type of the field, which is one of the numeric types
+     * @throws NumberFormatException if a bound cannot be parsed as a number of the type
+     */
+    NumberBounds numberBounds(JavaType type) {
+        NumberBounds result = numberBounds;
+        if (result == null || result.type() != type) {
+            result = NumberBounds.of(this, type);
+            numberBounds = result;
+        }
+        return result;
+    }
+}
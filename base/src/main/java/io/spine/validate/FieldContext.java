@@ -23,14 +23,12 @@ package io.spine.validate;
 import com.google.protobuf.Descriptors.FieldDescriptor;
 import io.spine.annotation.Internal;
 import io.spine.base.FieldPath;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.util.Arrays;
 
-import static com.google.common.collect.Lists.newLinkedList;
+import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.util.Exceptions.newIllegalStateException;
-import static java.util.Collections.singleton;
 
 /**
  * A context of a {@link FieldDescriptor}.
@@ -38,13 +36,22 @@ import static java.util.Collections.singleton;
  * <p>In particular, holds a hierarchy of field descriptors from
  * the top-level descriptor to the descriptor of the current field.
  *
+ * <p>The hierarchy is stored as a chain of immutable contexts, each of which refers to
+ * the context of the enclosing field. So, obtaining a context for a child field does not
+ * copy the hierarchy. The {@linkplain #getFieldPath() field path} of the context is
+ * built only when requested, which normally happens only if a constraint is violated.
+ *
  * @author Dmytro Grankin
  */
 @Internal
 public final class FieldContext {
 
+    /** The context without descriptors, which serves as the root for top-level fields. */
+    private static final FieldContext EMPTY = new FieldContext();
+
     /**
-     * Parent descriptors and the target descriptor of this context at the end.
+     * The context of the field enclosing the target, or {@code null} for
+     * the {@linkplain #empty() empty} context.
      *
      * <p>E.g, we have the following declarations:
      * <pre>{@code
@@ -57,15 +64,36 @@ public final class FieldContext {
      * }
      * }</pre>
      *
-     * <p>The value of this field for the {@code value} field of the {@code UserId} is
-     * {@code [FieldDescriptor_for_id, FieldDescriptor_for_value]}.
+     * <p>The context for the {@code value} field of the {@code UserId} has the {@code value}
+     * field as the target, and its parent is the context for the {@code id} field of
+     * the {@code User}. The parent of the latter is the empty context.
      */
-    private final List<FieldDescriptor> descriptors;
-    private final FieldPath fieldPath;
+    private final @Nullable FieldContext parent;
+    private final @Nullable FieldDescriptor target;
+    private final int depth;
+    private final int hashCode;
 
-    private FieldContext(Iterable<FieldDescriptor> descriptors) {
-        this.descriptors = newLinkedList(descriptors);
-        this.fieldPath = fieldPathOf(descriptors);
+    /**
+     * The lazily built path of the target.
+     *
+     * <p>Is not volatile, as the path is immutable and building it twice is harmless.
+     */
+    @SuppressWarnings("FieldAccessedSynchronizedAndUnsynchronized") // See above.
+    private @Nullable FieldPath fieldPath;
+
+    /** Creates the empty context. */
+    private FieldContext() {
+        this.parent = null;
+        this.target = null;
+        this.depth = 0;
+        this.hashCode = 1;
+    }
+
+    private FieldContext(FieldContext parent, FieldDescriptor target) {
+        this.parent = parent;
+        this.target = target;
+        this.depth = parent.depth + 1;
+        this.hashCode = 31 * parent.hashCode + target.hashCode();
     }
 
     /**
@@ -75,16 +103,16 @@ public final class FieldContext {
      * @return the field context
      */
     public static FieldContext create(FieldDescriptor field) {
-        return new FieldContext(singleton(field));
+        return EMPTY.forChild(field);
     }
 
     /**
-     * Creates empty descriptor context.
+     * Obtains empty descriptor context.
      *
      * @return the descriptor context
      */
     static FieldContext empty() {
-        return new FieldContext(Collections.emptyList());
+        return EMPTY;
     }
 
     /**
@@ -94,9 +122,24 @@ public final class FieldContext {
      * @return the child descriptor context
      */
     public FieldContext forChild(FieldDescriptor child) {
-        List<FieldDescriptor> newDescriptors = newLinkedList(descriptors);
-        newDescriptors.add(child);
-        return new FieldContext(newDescriptors);
+        checkNotNull(child);
+        return new FieldContext(this, child);
+    }
+
+    /**
+     * Tells if the context has no target.
+     */
+    boolean isEmpty() {
+        return target == null;
+    }
+
+    /**
+     * Obtains the depth of the target of this context.
+     *
+     * <p>A top-level field has the depth of {@code 1}.
+     */
+    int depth() {
+        return depth;
     }
 
     /**
@@ -104,21 +147,23 @@ public final class FieldContext {
      *
      * @return the target descriptor
      */
-    FieldDescriptor getTarget() {
-        int targetIndex = descriptors.size() - 1;
-        if (targetIndex == -1) {
+    public FieldDescriptor getTarget() {
+        if (target == null) {
             throw newIllegalStateException("Empty context cannot have a target.");
         }
-
-        return descriptors.get(targetIndex);
+        return target;
     }
 
-    private Optional<FieldDescriptor> getTargetParent() {
-        int targetParentIndex = descriptors.size() - 2;
-        boolean parentExists = targetParentIndex > -1;
-        return parentExists
-               ? Optional.of(descriptors.get(targetParentIndex))
-               : Optional.empty();
+    /**
+     * Obtains the parent of the target of this context.
+     *
+     * @return the descriptor of the field enclosing the target
+     *         or {@code null} if the target is a top-level field
+     */
+    public @Nullable FieldDescriptor getTargetParent() {
+        return parent != null
+               ? parent.target
+               : null;
     }
 
     /**
@@ -127,7 +172,26 @@ public final class FieldContext {
      * @return the field path
      */
     FieldPath getFieldPath() {
-        return fieldPath;
+        FieldPath result = fieldPath;
+        if (result == null) {
+            result = buildFieldPath();
+            fieldPath = result;
+        }
+        return result;
+    }
+
+    private FieldPath buildFieldPath() {
+        String[] names = new String[depth];
+        FieldContext context = this;
+        for (int i = depth - 1; i >= 0; i--) {
+            names[i] = context.getTarget()
+                              .getName();
+            context = context.parent;
+        }
+        FieldPath result = FieldPath.newBuilder()
+                                    .addAllFieldName(Arrays.asList(names))
+                                    .build();
+        return result;
     }
 
     /**
@@ -138,21 +202,24 @@ public final class FieldContext {
      * @return {@code true} if this context has the same target and the same parent
      */
     public boolean hasSameTargetAndParent(FieldContext other) {
-        String thisTargetName = getTarget().getFullName();
-        String otherTargetName = other.getTarget()
-                                      .getFullName();
-        boolean sameTarget = thisTargetName.equals(otherTargetName);
+        boolean sameTarget = sameField(getTarget(), other.getTarget());
         if (!sameTarget) {
             return false;
         }
-        Optional<String> parentFromThis = getTargetParent()
-                .map(FieldDescriptor::getFullName);
-        Optional<String> parentFromOther = other
-                .getTargetParent()
-                .map(FieldDescriptor::getFullName);
-        boolean bothHaveParents = parentFromThis.isPresent() && parentFromOther.isPresent();
-        return bothHaveParents && parentFromThis.get()
-                                                .equals(parentFromOther.get());
+        FieldDescriptor parentFromThis = getTargetParent();
+        FieldDescriptor parentFromOther = other.getTargetParent();
+        boolean bothHaveParents = parentFromThis != null && parentFromOther != null;
+        return bothHaveParents && sameField(parentFromThis, parentFromOther);
+    }
+
+    /**
+     * Tells if the descriptors describe the same field, even if they are obtained
+     * from different descriptor pools.
+     */
+    private static boolean sameField(FieldDescriptor first, FieldDescriptor second) {
+        return first == second
+                || first.getFullName()
+                        .equals(second.getFullName());
     }
 
     @Override
@@ -165,21 +232,24 @@ public final class FieldContext {
         }
 
         FieldContext that = (FieldContext) o;
-
-        return descriptors.equals(that.descriptors);
+        if (depth != that.depth || hashCode != that.hashCode) {
+            return false;
+        }
+        @Nullable FieldContext thisContext = this;
+        @Nullable FieldContext thatContext = that;
+        while (thisContext != null && thatContext != null && thisContext != thatContext) {
+            if (!thisContext.getTarget()
+                            .equals(thatContext.getTarget())) {
+                return false;
+            }
+            thisContext = thisContext.parent;
+            thatContext = thatContext.parent;
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return descriptors.hashCode();
-    }
-
-    private static FieldPath fieldPathOf(Iterable<FieldDescriptor> descriptors) {
-        FieldPath.Builder builder = FieldPath.newBuilder();
-        for (FieldDescriptor descriptor : descriptors) {
-            String fieldName = descriptor.getName();
-            builder = builder.addFieldName(fieldName);
-        }
-        return builder.build();
+        return hashCode;
     }
 }
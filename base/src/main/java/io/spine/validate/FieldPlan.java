@@ -0,0 +1,270 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.validate;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.Any;
+import com.google.protobuf.DescriptorProtos.FieldOptions;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import io.spine.base.CommandMessage;
+import io.spine.option.Time;
+import io.spine.validate.rules.ValidationRuleOptions;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The part of a {@linkplain ValidationPlan validation plan} describing a single field.
+ *
+ * <p>Holds the properties of the field, which do not depend on the validated value,
+ * so that they are computed once per field rather than on each validation.
+ */
+final class FieldPlan {
+
+    /**
+     * The name of the field holding values in a map entry type.
+     */
+    private static final String MAP_VALUE_FIELD = "value";
+
+    private final FieldDescriptor descriptor;
+
+    /**
+     * The type of the field.
+     */
+    private final JavaType fieldType;
+
+    /**
+     * The type of the field values.
+     *
+     * <p>For map fields, this is the type of the map values. For other fields, this is
+     * the {@linkplain #fieldType type of the field}.
+     */
+    private final JavaType valueType;
+
+    private final boolean repeatedOrMap;
+
+    /**
+     * Tells if the field must be validated as an entity ID, which is the case for the first
+     * field of a command message.
+     */
+    private final boolean entityId;
+
+    /**
+     * The constraints declared for the field in its own definition.
+     */
+    private final FieldConstraints ownConstraints;
+
+    /**
+     * The constraints for the field when it is validated as a part of a message
+     * referenced by the given parent field.
+     *
+     * <p>Differs from {@link #ownConstraints} only if there is a
+     * {@linkplain io.spine.option.OptionsProto#validationOf validation rule} for the field
+     * in the parent message.
+     *
+     * <p>The parent fields are held via weak references, so that the plan does not keep
+     * the types of the parents reachable. The constraints do not reference the parents.
+     */
+    private final ConcurrentMap<FieldDescriptor, FieldConstraints> constraintsByParent =
+            CacheBuilder.newBuilder()
+                        .weakKeys()
+                        .<FieldDescriptor, FieldConstraints>build()
+                        .asMap();
+
+    /**
+     * Tells if a top-level field value, once valid, may become invalid as time passes.
+     *
+     * <p>Is computed on the first request.
+     */
+    private volatile @Nullable Boolean timeDependent;
+
+    FieldPlan(FieldDescriptor descriptor) {
+        this.descriptor = checkNotNull(descriptor);
+        this.fieldType = descriptor.getJavaType();
+        this.valueType = valueTypeOf(descriptor);
+        this.repeatedOrMap = descriptor.isRepeated() || descriptor.isMapField();
+        this.entityId = isEntityId(descriptor);
+        this.ownConstraints = FieldConstraints.of(descriptor, descriptor.getOptions());
+    }
+
+    /**
+     * Obtains the plan for the passed field.
+     */
+    static FieldPlan of(FieldDescriptor field) {
+        checkNotNull(field);
+        FieldPlan result = ValidationPlan.of(field.getContainingType())
+                                         .field(field);
+        return result;
+    }
+
+    private static JavaType valueTypeOf(FieldDescriptor field) {
+        if (!field.isMapField()) {
+            return field.getJavaType();
+        }
+        Descriptor entryType = field.getMessageType();
+        FieldDescriptor valueField = entryType.findFieldByName(MAP_VALUE_FIELD);
+        return valueField.getJavaType();
+    }
+
+    private static boolean isEntityId(FieldDescriptor field) {
+        boolean isCommandsFile = CommandMessage.File.predicate()
+                                                    .test(field.getFile());
+        boolean isFirstField = field.getIndex() == 0;
+        return isCommandsFile && isFirstField;
+    }
+
+    FieldDescriptor descriptor() {
+        return descriptor;
+    }
+
+    JavaType fieldType() {
+        return fieldType;
+    }
+
+    JavaType valueType() {
+        return valueType;
+    }
+
+    boolean isRepeatedOrMap() {
+        return repeatedOrMap;
+    }
+
+    boolean isEntityId() {
+        return entityId;
+    }
+
+    /**
+     * Obtains the constraints of the field in the given context.
+     *
+     * <p>The constraints are defined either by the field declaration, or by a validation rule
+     * targeting the parent of the field.
+     *
+     * @param context the context of the validated field
+     * @return the constraints to check
+     */
+    FieldConstraints constraintsIn(FieldContext context) {
+        FieldDescriptor parent = context.getTargetParent();
+        return constraintsIn(parent);
+    }
+
+    /**
+     * Obtains the constraints of the field when it is a part of a message referenced by
+     * the given parent field.
+     *
+     * @param parent the field enclosing the validated field or {@code null} for a top-level field
+     * @return the constraints to check
+     */
+    FieldConstraints constraintsIn(@Nullable FieldDescriptor parent) {
+        if (parent == null) {
+            return ownConstraints;
+        }
+        FieldConstraints cached = constraintsByParent.get(parent);
+        if (cached != null) {
+            return cached;
+        }
+        FieldConstraints resolved = resolveConstraints(parent);
+        FieldConstraints previous = constraintsByParent.putIfAbsent(parent, resolved);
+        return previous != null
+               ? previous
+               : resolved;
+    }
+
+    /**
+     * Tells if the field is validated according to its own declaration when it is a part of
+     * a message referenced by the given parent field.
+     *
+     * @param parent the field enclosing the validated field or {@code null} for a top-level field
+     * @return {@code true} if there is no validation rule for the field in the parent
+     */
+    boolean hasOwnConstraintsIn(@Nullable FieldDescriptor parent) {
+        return constraintsIn(parent) == ownConstraints;
+    }
+
+    /**
+     * Tells if a value of the field, being valid once, may become invalid as time passes.
+     *
+     * <p>This is the case if the field itself or any of the fields of the nested messages,
+     * which are validated along with it, has the {@code (when)} constraint. A field of the
+     * {@link Any} type validated as {@code (valid)} is considered time-dependent too, as
+     * the type of its value is not known.
+     *
+     * <p>Describes the field as a top-level field.
+     */
+    boolean isTimeDependent() {
+        Boolean result = timeDependent;
+        if (result == null) {
+            result = dependsOnTime(this, null, new HashSet<>());
+            timeDependent = result;
+        }
+        return result;
+    }
+
+    private static boolean dependsOnTime(FieldPlan field,
+                                         @Nullable FieldDescriptor parent,
+                                         Set<FieldDescriptor> visited) {
+        FieldConstraints constraints = field.constraintsIn(parent);
+        if (constraints.when()
+                       .getIn() != Time.TIME_UNDEFINED) {
+            return true;
+        }
+        boolean validatesNested = field.valueType == JavaType.MESSAGE && constraints.valid();
+        if (!validatesNested || !visited.add(field.descriptor)) {
+            return false;
+        }
+        Descriptor nestedType = nestedTypeOf(field.descriptor);
+        if (nestedType.getFullName()
+                      .equals(Any.getDescriptor()
+                                 .getFullName())) {
+            return true;
+        }
+        for (FieldPlan nested : ValidationPlan.of(nestedType)
+                                              .fields()) {
+            if (dependsOnTime(nested, field.descriptor, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Descriptor nestedTypeOf(FieldDescriptor field) {
+        if (!field.isMapField()) {
+            return field.getMessageType();
+        }
+        Descriptor entryType = field.getMessageType();
+        return entryType.findFieldByName(MAP_VALUE_FIELD)
+                        .getMessageType();
+    }
+
+    private FieldConstraints resolveConstraints(FieldDescriptor parent) {
+        FieldOptions ruleOptions = ValidationRuleOptions.findOptions(descriptor, parent);
+        FieldConstraints result = ruleOptions != null
+                                  ? FieldConstraints.of(descriptor, ruleOptions)
+                                  : ownConstraints;
+        return result;
+    }
+}
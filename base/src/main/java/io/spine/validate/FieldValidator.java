@@ -24,10 +24,8 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.protobuf.DescriptorProtos.FieldOptions;
 import com.google.protobuf.Descriptors.FieldDescriptor;
-import com.google.protobuf.Descriptors.FileDescriptor;
 import com.google.protobuf.GeneratedMessage.GeneratedExtension;
 import com.google.protobuf.Message;
-import io.spine.base.CommandMessage;
 import io.spine.base.FieldPath;
 import io.spine.logging.Logging;
 import io.spine.option.IfInvalidOption;
@@ -36,13 +34,13 @@ import io.spine.option.OptionsProto;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableList.copyOf;
 import static com.google.common.collect.ImmutableList.of;
 import static com.google.common.collect.Lists.newLinkedList;
-import static io.spine.validate.rules.ValidationRuleOptions.getOptionValue;
 
 /**
  * Validates messages according to Spine custom protobuf options and
@@ -56,14 +54,22 @@ abstract class FieldValidator<V> implements Logging {
     private static final String ENTITY_ID_REPEATED_FIELD_MSG =
             "Entity ID must not be a repeated field.";
 
+    /**
+     * The name of the checks applied to the first field of a command message,
+     * as reported to the {@linkplain ValidationListener listener}.
+     */
+    static final String ENTITY_ID = "entity_id";
+
     private final FieldDescriptor fieldDescriptor;
     private final ImmutableList<V> values;
     private final FieldContext fieldContext;
+    private final FieldPlan plan;
+    private final FieldConstraints constraints;
 
     private final List<ConstraintViolation> violations = newLinkedList();
 
-    private final boolean isCommandsFile;
-    private final boolean isFirstField;
+    private ValidationBudget budget = ValidationBudget.unlimited();
+
     private final boolean required;
     private final IfMissingOption ifMissingOption;
     private final boolean validate;
@@ -90,14 +96,12 @@ abstract class FieldValidator<V> implements Logging {
         this.values = checkNotNull(values);
         this.fieldDescriptor = fieldContext.getTarget();
         this.strict = strict;
-        FileDescriptor file = fieldDescriptor.getFile();
-        this.isCommandsFile = CommandMessage.File.predicate()
-                                                 .test(file);
-        this.isFirstField = fieldDescriptor.getIndex() == 0;
-        this.required = getFieldOption(OptionsProto.required);
-        this.ifMissingOption = getFieldOption(OptionsProto.ifMissing);
-        this.validate = getFieldOption(OptionsProto.valid);
-        this.ifInvalid = getFieldOption(OptionsProto.ifInvalid);
+        this.plan = FieldPlan.of(fieldDescriptor);
+        this.constraints = plan.constraintsIn(fieldContext);
+        this.required = constraints.required();
+        this.ifMissingOption = constraints.ifMissing();
+        this.validate = constraints.valid();
+        this.ifInvalid = constraints.ifInvalid();
     }
 
     @SuppressWarnings({
@@ -171,10 +175,23 @@ abstract class FieldValidator<V> implements Logging {
         return result;
     }
 
+    /**
+     * Validates the field within the limits of the given budget.
+     *
+     * <p>Violations found after the budget is exhausted are not reported.
+     *
+     * @param budget the budget of the validation this field validation belongs to
+     * @return a list of found {@linkplain ConstraintViolation constraint violations} is any
+     */
+    final List<ConstraintViolation> validate(ValidationBudget budget) {
+        this.budget = checkNotNull(budget);
+        return validate();
+    }
+
     /**
      * Performs type-specific field validation.
      *
-     * <p>Use {@link #addViolation(ConstraintViolation)} method in custom implementations.
+     * <p>Use {@link #addViolation(ConstraintViolation, String)} method in custom implementations.
      *
      * <p>Do not call this method directly. Use {@link #validate() validate()} instead.
      */
@@ -198,11 +215,11 @@ abstract class FieldValidator<V> implements Logging {
                     .setMsgFormat(ENTITY_ID_REPEATED_FIELD_MSG)
                     .setFieldPath(getFieldPath())
                     .build();
-            addViolation(violation);
+            addViolation(violation, ENTITY_ID);
             return;
         }
         if (fieldValueNotSet()) {
-            addViolation(newViolation(ifMissingOption));
+            addViolation(newViolation(ifMissingOption), ENTITY_ID);
         }
     }
 
@@ -238,7 +255,7 @@ abstract class FieldValidator<V> implements Logging {
             return;
         }
         if (fieldValueNotSet()) {
-            addViolation(newViolation(ifMissingOption));
+            addViolation(newViolation(ifMissingOption), "required");
         }
     }
 
@@ -252,9 +269,77 @@ abstract class FieldValidator<V> implements Logging {
      * Adds a validation constraint validation to the collection of violations.
      *
      * @param violation a violation to add
+     * @param option    the name of the violated option reported to
+     *                  the {@linkplain ValidationListener listener}
      */
-    protected void addViolation(ConstraintViolation violation) {
+    protected void addViolation(ConstraintViolation violation, String option) {
+        if (budget.tryAddViolation()) {
+            violations.add(violation);
+            notifyListener(option);
+        }
+    }
+
+    /**
+     * Adds a violation which wraps the already accounted violations of a nested message.
+     *
+     * <p>Unlike {@link #addViolation(ConstraintViolation, String)}, does not spend the budget
+     * of the validation.
+     */
+    final void addWrappingViolation(ConstraintViolation violation) {
         violations.add(violation);
+        notifyListener("valid");
+    }
+
+    private void notifyListener(String option) {
+        ValidationListener listener = ValidationListeners.current();
+        if (listener != null) {
+            listener.onViolation(fieldDescriptor.getContainingType(), option);
+        }
+    }
+
+    /**
+     * Tells if the rest of the field checks should be skipped because
+     * the validation budget is exhausted.
+     */
+    final boolean limitReached() {
+        return budget.skipRemaining();
+    }
+
+    /**
+     * Checks each of the given values and passes the found violations to the given sink.
+     *
+     * <p>If the validation {@linkplain ValidationOptions#parallelThreshold() allows}, the values
+     * are checked in parallel. Otherwise, the values are checked one by one until
+     * the {@linkplain #limitReached() limit} is reached.
+     *
+     * <p>In both cases the violations are passed to the sink in the order of the values.
+     *
+     * @param values the values to check
+     * @param check  the check of a single value, which must be safe to run concurrently
+     * @param sink   the consumer of the found violations
+     * @param <T>    the type of the values
+     */
+    final <T> void checkEach(List<T> values,
+                             BiConsumer<T, Consumer<ConstraintViolation>> check,
+                             Consumer<ConstraintViolation> sink) {
+        if (budget.isParallelFor(values.size())) {
+            List<ConstraintViolation> found = ParallelCheck.run(budget.pool(), values, check);
+            found.forEach(sink);
+            return;
+        }
+        for (T value : values) {
+            if (limitReached()) {
+                return;
+            }
+            check.accept(value, sink);
+        }
+    }
+
+    /**
+     * Obtains the budget of the validation this field validation belongs to.
+     */
+    final ValidationBudget budget() {
+        return budget;
     }
 
     private ConstraintViolation newViolation(IfMissingOption option) {
@@ -284,18 +369,25 @@ abstract class FieldValidator<V> implements Logging {
     /**
      * Returns a field validation option.
      *
+     * <p>If there is a validation rule for the field in its context, the option is taken
+     * from the rule. Otherwise, the option declared for the field is returned.
+     *
      * @param extension an extension key used to obtain a validation option
      * @param <T>       the type of the option
      */
     protected final <T> T getFieldOption(GeneratedExtension<FieldOptions, T> extension) {
-        Optional<T> externalOption = getOptionValue(fieldContext, extension);
-        if (externalOption.isPresent()) {
-            return externalOption.get();
-        }
+        T option = constraints.option(extension);
+        return option;
+    }
 
-        T ownOption = fieldDescriptor.getOptions()
-                                     .getExtension(extension);
-        return ownOption;
+    /**
+     * Obtains the validation constraints of the field.
+     *
+     * <p>The constraints are either declared for the field or defined by
+     * a validation rule for the field context.
+     */
+    final FieldConstraints constraints() {
+        return constraints;
     }
 
     private boolean shouldValidate() {
@@ -315,13 +407,12 @@ abstract class FieldValidator<V> implements Logging {
      * (if the field is the first in a command message), {@code false} otherwise.
      */
     private boolean isRequiredEntityIdField() {
-        boolean result = isCommandsFile && isFirstField;
+        boolean result = plan.isEntityId();
         return result;
     }
 
     private boolean isNotRepeatedOrMap() {
-        return !fieldDescriptor.isRepeated()
-                && !fieldDescriptor.isMapField();
+        return !plan.isRepeatedOrMap();
     }
 
     /**
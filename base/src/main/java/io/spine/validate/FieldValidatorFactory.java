@@ -20,19 +20,13 @@
 
 package io.spine.validate;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.primitives.Primitives;
-import com.google.protobuf.ByteString;
 import com.google.protobuf.Descriptors.FieldDescriptor;
 import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
-import com.google.protobuf.Message;
 
 import java.util.Map;
-import java.util.Objects;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.collect.Iterables.find;
 import static java.lang.String.format;
 
 /**
@@ -42,41 +36,10 @@ import static java.lang.String.format;
  */
 class FieldValidatorFactory {
 
-    private static final ImmutableMap<Class<?>, JavaType> SCALAR_FIELD_TYPES =
-            ImmutableMap.<Class<?>, JavaType>builder().put(Integer.class, JavaType.INT)
-                                                      .put(Long.class, JavaType.LONG)
-                                                      .put(Float.class, JavaType.FLOAT)
-                                                      .put(Double.class, JavaType.DOUBLE)
-                                                      .put(String.class, JavaType.STRING)
-                                                      .put(Boolean.class, JavaType.BOOLEAN)
-                                                      .build();
-
     private FieldValidatorFactory() {
         // Prevent instantiation of this utility class.
     }
 
-    /**
-     * Creates a new validator instance according to the field type and validates the field.
-     *
-     * <p>The target field of the resulting validator is represented with a linear data structure,
-     * i.e. not a map.
-     *
-     * @param fieldContext the context of the field to validate
-     * @param fieldValue   a value of the field to validate
-     * @param strict       if {@code true} validators would always assume that the field is
-     *                     required
-     */
-    private static FieldValidator<?> createForLinear(FieldContext fieldContext,
-                                                     Object fieldValue,
-                                                     boolean strict) {
-        JavaType fieldType = fieldContext.getTarget()
-                                         .getJavaType();
-        return createForLinear(fieldType,
-                               fieldContext,
-                               fieldValue,
-                               strict);
-    }
-
     /**
      * Creates a new validator instance according to the field type and validates the field.
      *
@@ -121,55 +84,64 @@ class FieldValidatorFactory {
     /**
      * Creates a new validator instance for a map field.
      *
+     * <p>The type of the map values is obtained from the {@linkplain FieldPlan plan} of the field.
+     *
+     * @param plan         the plan of the field
      * @param fieldContext the context of the field to create validator for
      * @param value        a value of the field to validate
      * @param strict       if {@code true} validators would always assume that the field is
      *                     required
      */
-    private static FieldValidator<?> createForMap(FieldContext fieldContext,
+    private static FieldValidator<?> createForMap(FieldPlan plan,
+                                                  FieldContext fieldContext,
                                                   Map<?, ?> value,
                                                   boolean strict) {
-        FieldDescriptor descriptor = fieldContext.getTarget();
+        FieldDescriptor descriptor = plan.descriptor();
         checkArgument(descriptor.isMapField(),
                       "Field %s is not a map field.",
                       descriptor.getFullName());
         if (value.isEmpty()) {
             return new EmptyMapFieldValidator(fieldContext, strict);
         }
-        Object firstValue = find(value.values(), Objects::nonNull);
-        Class<?> valueClass = firstValue.getClass();
-        Class<?> wrappedValueClass = Primitives.wrap(valueClass);
-        JavaType type = SCALAR_FIELD_TYPES.get(wrappedValueClass);
-        if (type == null) {
-            if (ByteString.class.isAssignableFrom(valueClass)) {
-                type = JavaType.BYTE_STRING;
-            } else if (Message.class.isAssignableFrom(valueClass)) {
-                type = JavaType.MESSAGE;
-            } else if (Enum.class.isAssignableFrom(valueClass)) {
-                type = JavaType.ENUM;
-            } else {
-                throw fieldTypeIsNotSupported(descriptor);
-            }
-        }
-        FieldValidator<?> validator = createForLinear(type,
+        FieldValidator<?> validator = createForLinear(plan.valueType(),
                                                       fieldContext,
                                                       value,
                                                       strict);
         return validator;
     }
 
+    private static FieldValidator<?> create(FieldPlan plan,
+                                            FieldContext fieldContext,
+                                            Object fieldValue,
+                                            boolean strict) {
+        return fieldValue instanceof Map
+               ? createForMap(plan, fieldContext, (Map<?, ?>) fieldValue, strict)
+               : createForLinear(plan.fieldType(), fieldContext, fieldValue, strict);
+    }
+
+    /**
+     * Creates a validator for the field with the given plan.
+     *
+     * @param plan         the plan of the target field of the context
+     * @param fieldContext the context of the field to validate
+     * @param fieldValue   a value of the field to validate
+     */
+    static FieldValidator<?> create(FieldPlan plan,
+                                    FieldContext fieldContext,
+                                    Object fieldValue) {
+        return create(plan, fieldContext, fieldValue, false);
+    }
+
     static FieldValidator<?> create(FieldContext fieldContext,
                                     Object fieldValue) {
-        return fieldValue instanceof Map
-               ? createForMap(fieldContext, (Map<?, ?>) fieldValue, false)
-               : createForLinear(fieldContext, fieldValue, false);
+        FieldPlan plan = FieldPlan.of(fieldContext.getTarget());
+        return create(plan, fieldContext, fieldValue, false);
     }
 
     static FieldValidator<?> createStrict(FieldContext fieldContext,
                                           Object fieldValue) {
-        return fieldValue instanceof Map
-               ? createForMap(fieldContext, (Map<?, ?>) fieldValue, true)
-               : createForLinear(fieldContext, fieldValue, true);
+        FieldPlan plan = FieldPlan.of(fieldContext.getTarget());
+        return create(plan, fieldContext, fieldValue, true);
     }
 
     private static IllegalArgumentException fieldTypeIsNotSupported(FieldDescriptor descriptor) {
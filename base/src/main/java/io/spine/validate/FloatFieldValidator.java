@@ -20,8 +20,6 @@
 
 package io.spine.validate;
 
-import static java.lang.Math.abs;
-
 /**
  * Validates fields of {@link Float} types.
  *
@@ -38,16 +36,4 @@ class FloatFieldValidator extends FloatFieldValidatorBase<Float> {
     FloatFieldValidator(FieldContext fieldContext, Object fieldValues) {
         super(fieldContext, FieldValidator.toValueList(fieldValues));
     }
-
-    @Override
-    protected Float toNumber(String value) {
-        Float min = Float.valueOf(value);
-        return min;
-    }
-
-    @Override
-    protected Float getAbs(Float value) {
-        Float abs = abs(value);
-        return abs;
-    }
 }
@@ -53,6 +53,6 @@ abstract class FloatFieldValidatorBase<V extends Number & Comparable<V>>
                 .setFieldPath(getFieldPath())
                 .setFieldValue(wrap(value))
                 .build();
-        addViolation(violation);
+        addViolation(violation, ENTITY_ID);
     }
 }
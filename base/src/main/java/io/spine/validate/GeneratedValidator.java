@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import io.spine.annotation.Internal;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The base for validators generated by the Spine Model Compiler.
+ *
+ * <p>A generated validator checks the constraints declared for the fields of a message type
+ * using the typed accessors of the message class, without reflection, boxing or copying of
+ * field values.
+ *
+ * <p>The generated code only tells if a field is valid. If it is not, or if the generated
+ * code cannot check some of the declared constraints, {@link MessageValidator} validates
+ * the field reflectively. Thus, the reported violations are the same no matter if a generated
+ * validator is present.
+ *
+ * <p>The generated validator for a message type {@code Foo} is named {@code FooValidator} and
+ * resides in the package of the {@code Foo} class. It must have a public parameterless
+ * constructor.
+ *
+ * @param <M> the type of validated messages
+ */
+@Internal
+public abstract class GeneratedValidator<M extends Message> {
+
+    private final Descriptor type;
+
+    /**
+     * Creates a new instance of the validator.
+     *
+     * @param type the descriptor of the validated message type
+     */
+    protected GeneratedValidator(Descriptor type) {
+        this.type = checkNotNull(type);
+    }
+
+    /**
+     * Checks if a field of the passed message satisfies its declared constraints.
+     *
+     * <p>The implementations must return {@code true} only if the reflective validation of
+     * the field finds no violations. If a constraint of the field cannot be checked by
+     * the generated code, {@code false} is returned.
+     *
+     * @param message    the message to check
+     * @param fieldIndex the index of the field in the message type declaration
+     * @return {@code true} if the field is valid,
+     *         {@code false} if it should be validated reflectively
+     */
+    protected abstract boolean isFieldValid(M message, int fieldIndex);
+
+    /**
+     * Obtains the type of the validated messages.
+     */
+    final Descriptor type() {
+        return type;
+    }
+
+    /**
+     * Checks the field of the message if the generated code is applicable to it.
+     *
+     * <p>The generated code is not used for entity ID fields and for the fields, which are
+     * redefined by a validation rule in the context of the passed parent field.
+     *
+     * @param field   the plan of the checked field
+     * @param message the message to check
+     * @param parent  the field referencing the message or {@code null} for a top-level message
+     * @return {@code true} if the field is known to be valid,
+     *         {@code false} if it should be validated reflectively
+     */
+    final boolean isValid(FieldPlan field, M message, @Nullable FieldDescriptor parent) {
+        if (field.isEntityId() || !field.hasOwnConstraintsIn(parent)) {
+            return false;
+        }
+        boolean result = isFieldValid(message, field.descriptor()
+                                                    .getIndex());
+        return result;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.protobuf.Message;
+import io.spine.logging.Logging;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+
+import java.util.Optional;
+
+/**
+ * The registry of {@linkplain GeneratedValidator generated validators}.
+ *
+ * <p>A validator for a message class is looked up once, when a message of the class is
+ * validated for the first time. If there is no generated validator for the class,
+ * the messages are validated reflectively.
+ */
+final class GeneratedValidators {
+
+    /**
+     * The suffix of the simple name of a generated validator class.
+     */
+    private static final String CLASS_NAME_SUFFIX = "Validator";
+
+    /**
+     * The separator of the names of the enclosing classes in the name of a validator class.
+     */
+    private static final char NESTING_SEPARATOR = '_';
+
+    private static final ClassValue<Optional<GeneratedValidator<?>>> validators =
+            new ClassValue<Optional<GeneratedValidator<?>>>() {
+                @Override
+                protected Optional<GeneratedValidator<?>> computeValue(Class<?> messageClass) {
+                    return load(messageClass);
+                }
+            };
+
+    /** Prevents instantiation of this utility class. */
+    private GeneratedValidators() {
+    }
+
+    /**
+     * Obtains the generated validator for the passed message.
+     *
+     * @param message the message to validate
+     * @param <M>     the type of the message
+     * @return the generated validator or {@code null} if there is none for the message class
+     */
+    static <M extends Message> @Nullable GeneratedValidator<M> find(M message) {
+        Optional<GeneratedValidator<?>> found = validators.get(message.getClass());
+        if (!found.isPresent()) {
+            return null;
+        }
+        GeneratedValidator<?> validator = found.get();
+        if (validator.type() != message.getDescriptorForType()) {
+            // A class which happens to follow the naming convention for another type.
+            return null;
+        }
+        // The validator is for the type of the message, as checked above.
+        @SuppressWarnings("unchecked")
+        GeneratedValidator<M> result = (GeneratedValidator<M>) validator;
+        return result;
+    }
+
+    @SuppressWarnings("OverlyBroadCatchBlock") // OK, as the exception handling is the same.
+    private static Optional<GeneratedValidator<?>> load(Class<?> messageClass) {
+        String className = validatorClassName(messageClass);
+        Class<?> validatorClass;
+        try {
+            validatorClass = Class.forName(className, true, messageClass.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError ignored) {
+            return Optional.empty();
+        }
+        if (!GeneratedValidator.class.isAssignableFrom(validatorClass)) {
+            return Optional.empty();
+        }
+        try {
+            GeneratedValidator<?> validator =
+                    (GeneratedValidator<?>) validatorClass.getDeclaredConstructor()
+                                                          .newInstance();
+            return Optional.of(validator);
+        } catch (Exception e) {
+            log().warn("Unable to create the validator {}. Messages of {} will be " +
+                               "validated reflectively.", className, messageClass.getName(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Obtains the name of the generated validator class for the passed message class.
+     *
+     * <p>The validator resides in the package of the message class. Its simple name is
+     * the simple name of the message class preceded by the names of the enclosing classes
+     * and followed by {@code Validator}, e.g. {@code Outer_FooValidator} for
+     * the {@code Outer.Foo} class.
+     */
+    private static String validatorClassName(Class<?> messageClass) {
+        String name = messageClass.getName();
+        int packageLength = name.lastIndexOf('.') + 1;
+        String packagePrefix = name.substring(0, packageLength);
+        String nestedName = name.substring(packageLength)
+                                .replace('$', NESTING_SEPARATOR);
+        String result = packagePrefix + nestedName + CLASS_NAME_SUFFIX;
+        return result;
+    }
+
+    private static Logger log() {
+        return Logging.get(GeneratedValidators.class);
+    }
+}
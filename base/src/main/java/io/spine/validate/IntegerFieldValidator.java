@@ -20,8 +20,6 @@
 
 package io.spine.validate;
 
-import static java.lang.Math.abs;
-
 /**
  * Validates fields of {@link Integer} types.
  *
@@ -38,16 +36,4 @@ class IntegerFieldValidator extends NumberFieldValidator<Integer> {
     IntegerFieldValidator(FieldContext fieldContext, Object fieldValues) {
         super(fieldContext, FieldValidator.<Integer>toValueList(fieldValues));
     }
-
-    @Override
-    protected Integer toNumber(String value) {
-        Integer number = Integer.valueOf(value);
-        return number;
-    }
-
-    @Override
-    protected Integer getAbs(Integer value) {
-        Integer abs = abs(value);
-        return abs;
-    }
 }
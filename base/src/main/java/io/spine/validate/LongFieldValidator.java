@@ -20,8 +20,6 @@
 
 package io.spine.validate;
 
-import static java.lang.Math.abs;
-
 /**
  * Validates fields of {@link Long} number types.
  *
@@ -38,16 +36,4 @@ class LongFieldValidator extends NumberFieldValidator<Long> {
     LongFieldValidator(FieldContext fieldContext, Object fieldValues) {
         super(fieldContext, FieldValidator.<Long>toValueList(fieldValues));
     }
-
-    @Override
-    protected Long toNumber(String value) {
-        Long number = Long.valueOf(value);
-        return number;
-    }
-
-    @Override
-    protected Long getAbs(Long value) {
-        Long abs = abs(value);
-        return abs;
-    }
 }
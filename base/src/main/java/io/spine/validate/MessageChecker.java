@@ -0,0 +1,379 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.validate;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import com.google.protobuf.Internal.DoubleList;
+import com.google.protobuf.Internal.FloatList;
+import com.google.protobuf.Internal.IntList;
+import com.google.protobuf.Internal.LongList;
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import io.spine.option.Time;
+import io.spine.option.TimeOption;
+import io.spine.protobuf.AnyPacker;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.spine.base.Time.getCurrentTime;
+import static io.spine.option.Time.FUTURE;
+import static io.spine.option.Time.TIME_UNDEFINED;
+import static io.spine.validate.Validate.isDefault;
+
+/**
+ * Checks if a message is valid without reporting the constraint violations.
+ *
+ * <p>Applies the same rules as {@link MessageValidator}, but stops on the first violated
+ * constraint. Unlike the validator, does not create field validators, copy field values or
+ * build violations. The values of singular primitive fields are still obtained via
+ * {@link Message#getField(com.google.protobuf.Descriptors.FieldDescriptor) getField()}, and
+ * so may be boxed.
+ *
+ * <p>Use {@link MessageValidator#validate(Message)} to obtain the violations of
+ * an invalid message.
+ */
+final class MessageChecker {
+
+    /** Prevents instantiation of this utility class. */
+    private MessageChecker() {
+    }
+
+    /**
+     * Checks if the passed message is valid.
+     *
+     * @param message the message to check
+     * @param parent  the field referencing the message or {@code null} for a top-level message
+     * @return {@code true} if the message satisfies all its constraints, {@code false} otherwise
+     */
+    static boolean isValid(Message message, @Nullable FieldDescriptor parent) {
+        ValidationPlan plan = ValidationPlan.of(message.getDescriptorForType());
+        Timestamp now = plan.isTimeDependent()
+                        ? getCurrentTime()
+                        : null;
+        return isValid(message, plan, parent, now);
+    }
+
+    /**
+     * Checks if the passed message is valid.
+     *
+     * @param now the time captured for the {@code (when)} checks of the top-level message,
+     *            or {@code null} if the time should be obtained when needed
+     */
+    private static boolean isValid(Message message,
+                                   ValidationPlan plan,
+                                   @Nullable FieldDescriptor parent,
+                                   @Nullable Timestamp now) {
+        RequiredFieldAlternatives alternatives = plan.alternatives();
+        if (alternatives != null && !alternatives.foundIn(message, parent)) {
+            return false;
+        }
+        GeneratedValidator<Message> generated = GeneratedValidators.find(message);
+        for (FieldPlan field : plan.fields()) {
+            if (generated != null && generated.isValid(field, message, parent)) {
+                continue;
+            }
+            FieldConstraints constraints = field.constraintsIn(parent);
+            if (!isValid(field, constraints, message, false, now)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks the value of the field in the passed message.
+     *
+     * @param field       the plan of the field
+     * @param constraints the constraints of the field in its context
+     * @param message     the message containing the field
+     * @param strict      if {@code true} a message or a string field is assumed to be required
+     * @return {@code true} if the field value is valid, {@code false} otherwise
+     */
+    static boolean isValid(FieldPlan field,
+                           FieldConstraints constraints,
+                           Message message,
+                           boolean strict) {
+        return isValid(field, constraints, message, strict, null);
+    }
+
+    private static boolean isValid(FieldPlan field,
+                                   FieldConstraints constraints,
+                                   Message message,
+                                   boolean strict,
+                                   @Nullable Timestamp now) {
+        FieldDescriptor descriptor = field.descriptor();
+        boolean repeated = descriptor.isRepeated();
+        int count = repeated
+                    ? message.getRepeatedFieldCount(descriptor)
+                    : 1;
+        boolean notSet = count == 0 || (!repeated && isNotSet(field, message.getField(descriptor)));
+        boolean required = constraints.required() || (strict && appliesStrictMode(field));
+        if (required && notSet) {
+            return false;
+        }
+        if (field.isEntityId() && !isValidEntityId(field, notSet)) {
+            return false;
+        }
+        boolean shouldValidate = !field.isRepeatedOrMap() || constraints.valid();
+        if (!shouldValidate) {
+            return true;
+        }
+        return ownRulesMet(field, constraints, message, count, notSet, now);
+    }
+
+    /**
+     * Tells if the field is required in the strict mode.
+     *
+     * <p>As {@link FieldValidatorFactory} does, applies the strict mode to message, map and
+     * string fields only. Fields of other types are never assumed to be required.
+     */
+    private static boolean appliesStrictMode(FieldPlan field) {
+        JavaType type = field.fieldType();
+        return type == JavaType.MESSAGE || type == JavaType.STRING;
+    }
+
+    private static boolean isValidEntityId(FieldPlan field, boolean notSet) {
+        if (field.descriptor()
+                 .isRepeated()) {
+            return false;
+        }
+        JavaType type = field.fieldType();
+        boolean allowedType = type != JavaType.FLOAT
+                && type != JavaType.DOUBLE
+                && type != JavaType.BYTE_STRING;
+        return allowedType && !notSet;
+    }
+
+    /**
+     * Checks if the value of a single-value field is not set.
+     *
+     * @see FieldValidator#isNotSet(Object)
+     */
+    private static boolean isNotSet(FieldPlan field, Object value) {
+        switch (field.fieldType()) {
+            case MESSAGE:
+                return isDefault((Message) value);
+            case STRING:
+                return ((String) value).isEmpty();
+            case BYTE_STRING:
+                return ((ByteString) value).isEmpty();
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+                return ((Number) value).intValue() == 0;
+            case ENUM:
+                return ((EnumValueDescriptor) value).getNumber() <= 0;
+            case BOOLEAN:
+            default:
+                return false;
+        }
+    }
+
+    private static Object valueAt(Message message, FieldDescriptor field, int index) {
+        return field.isRepeated()
+               ? message.getRepeatedField(field, index)
+               : message.getField(field);
+    }
+
+    private static boolean ownRulesMet(FieldPlan field,
+                                       FieldConstraints constraints,
+                                       Message message,
+                                       int count,
+                                       boolean notSet,
+                                       @Nullable Timestamp now) {
+        switch (field.fieldType()) {
+            case MESSAGE:
+                return messagesValid(field, constraints, message, count, notSet, now);
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+                return numbersValid(field, constraints, message, count);
+            case STRING:
+                return stringsValid(field, constraints, message, count);
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Checks message values of a field.
+     *
+     * @see MessageFieldValidator
+     */
+    private static boolean messagesValid(FieldPlan field,
+                                         FieldConstraints constraints,
+                                         Message message,
+                                         int count,
+                                         boolean notSet,
+                                         @Nullable Timestamp now) {
+        if (count == 0) {
+            return true;
+        }
+        FieldDescriptor descriptor = field.descriptor();
+        Message first = (Message) valueAt(message, descriptor, 0);
+        if (constraints.valid() && !notSet) {
+            boolean isAny = first instanceof Any;
+            for (int i = 0; i < count; i++) {
+                Message value = (Message) valueAt(message, descriptor, i);
+                if (!isNestedValid(value, descriptor, now)) {
+                    return false;
+                }
+                if (isAny && !isNestedValid(AnyPacker.unpack((Any) value), descriptor, now)) {
+                    return false;
+                }
+            }
+        }
+        if (first instanceof Timestamp) {
+            return timestampsValid(constraints.when(), message, descriptor, count, now);
+        }
+        return true;
+    }
+
+    private static boolean isNestedValid(Message message,
+                                         FieldDescriptor parent,
+                                         @Nullable Timestamp now) {
+        ValidationPlan plan = ValidationPlan.of(message.getDescriptorForType());
+        return isValid(message, plan, parent, now);
+    }
+
+    private static boolean timestampsValid(TimeOption option,
+                                           Message message,
+                                           FieldDescriptor field,
+                                           int count,
+                                           @Nullable Timestamp capturedNow) {
+        Time when = option.getIn();
+        if (when == TIME_UNDEFINED) {
+            return true;
+        }
+        Timestamp now = capturedNow != null
+                        ? capturedNow
+                        : getCurrentTime();
+        for (int i = 0; i < count; i++) {
+            Timestamp time = (Timestamp) valueAt(message, field, i);
+            boolean valid = (when == FUTURE)
+                            ? isLaterThan(time, now)
+                            : isLaterThan(now, time);
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLaterThan(Timestamp t1, Timestamp t2) {
+        int result = Long.compare(t1.getSeconds(), t2.getSeconds());
+        result = (result == 0)
+                 ? Integer.compare(t1.getNanos(), t2.getNanos())
+                 : result;
+        return result > 0;
+    }
+
+    /**
+     * Checks string values of a field.
+     *
+     * @see StringFieldValidator
+     */
+    private static boolean stringsValid(FieldPlan field,
+                                        FieldConstraints constraints,
+                                        Message message,
+                                        int count) {
+        Pattern pattern = constraints.compiledPattern();
+        if (pattern == null) {
+            return true;
+        }
+        FieldDescriptor descriptor = field.descriptor();
+        Matcher matcher = null;
+        for (int i = 0; i < count; i++) {
+            String value = (String) valueAt(message, descriptor, i);
+            matcher = matcher == null
+                      ? pattern.matcher(value)
+                      : matcher.reset(value);
+            if (!matcher.matches()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks number values of a field.
+     *
+     * <p>The values of repeated fields are read from the primitive lists, if possible,
+     * so that they are not boxed.
+     *
+     * @see NumberFieldValidator
+     */
+    private static boolean numbersValid(FieldPlan field,
+                                        FieldConstraints constraints,
+                                        Message message,
+                                        int count) {
+        FieldDescriptor descriptor = field.descriptor();
+        NumberBounds bounds = constraints.numberBounds(field.fieldType());
+        if (!descriptor.isRepeated()) {
+            Number value = (Number) message.getField(descriptor);
+            return bounds.isIntegral()
+                   ? bounds.fits(value.longValue())
+                   : bounds.fits(value.doubleValue());
+        }
+        Object values = message.getField(descriptor);
+        for (int i = 0; i < count; i++) {
+            boolean fits = bounds.isIntegral()
+                           ? bounds.fits(longAt(values, message, descriptor, i))
+                           : bounds.fits(doubleAt(values, message, descriptor, i));
+            if (!fits) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("ChainOfInstanceofChecks") // The primitive lists have no common parent.
+    private static long longAt(Object values, Message message, FieldDescriptor field, int index) {
+        if (values instanceof IntList) {
+            return ((IntList) values).getInt(index);
+        }
+        if (values instanceof LongList) {
+            return ((LongList) values).getLong(index);
+        }
+        return ((Number) message.getRepeatedField(field, index)).longValue();
+    }
+
+    @SuppressWarnings("ChainOfInstanceofChecks") // The primitive lists have no common parent.
+    private static double
+    doubleAt(Object values, Message message, FieldDescriptor field, int index) {
+        if (values instanceof DoubleList) {
+            return ((DoubleList) values).getDouble(index);
+        }
+        if (values instanceof FloatList) {
+            return ((FloatList) values).getFloat(index);
+        }
+        return ((Number) message.getRepeatedField(field, index)).doubleValue();
+    }
+}
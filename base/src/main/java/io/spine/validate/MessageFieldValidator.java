@@ -25,14 +25,13 @@ import com.google.protobuf.Any;
 import com.google.protobuf.Message;
 import com.google.protobuf.Timestamp;
 import io.spine.option.IfInvalidOption;
-import io.spine.option.OptionsProto;
 import io.spine.option.Time;
 import io.spine.option.TimeOption;
 import io.spine.protobuf.AnyPacker;
 
 import java.util.List;
+import java.util.function.Consumer;
 
-import static io.spine.base.Time.getCurrentTime;
 import static io.spine.option.Time.FUTURE;
 import static io.spine.option.Time.TIME_UNDEFINED;
 import static io.spine.protobuf.AnyPacker.pack;
@@ -62,7 +61,7 @@ class MessageFieldValidator extends FieldValidator<Message> {
                           Object fieldValues,
                           boolean strict) {
         super(fieldContext, toValueList(fieldValues), strict);
-        this.timeConstraint = getFieldOption(OptionsProto.when);
+        this.timeConstraint = constraints().when();
     }
 
     @Override
@@ -96,24 +95,29 @@ class MessageFieldValidator extends FieldValidator<Message> {
     }
 
     private void validateFields() {
-        for (Message value : getValues()) {
-            validateSingle(value);
-        }
+        checkEach(getValues(), this::validateSingle, this::addWrappingViolation);
     }
 
     private void validateAny() {
-        for (Message value : getValues()) {
-            Any any = (Any) value;
-            Message unpacked = AnyPacker.unpack(any);
-            validateSingle(unpacked);
-        }
+        checkEach(getValues(), this::validatePacked, this::addWrappingViolation);
     }
 
-    private void validateSingle(Message message) {
-        MessageValidator validator = MessageValidator.newInstance(getFieldContext());
-        List<ConstraintViolation> violations = validator.validate(message);
+    private void validatePacked(Message value, Consumer<ConstraintViolation> sink) {
+        Any any = (Any) value;
+        Message unpacked = AnyPacker.unpack(any);
+        validateSingle(unpacked, sink);
+    }
+
+    private void validateSingle(Message message, Consumer<ConstraintViolation> sink) {
+        FieldContext context = getFieldContext();
+        ValidationBudget budget = budget();
+        if (!budget.allowsDepth(context.depth() + 1)) {
+            return;
+        }
+        MessageValidator validator = MessageValidator.newInstance(context);
+        List<ConstraintViolation> violations = validator.validate(message, budget);
         if (!violations.isEmpty()) {
-            addViolation(newValidViolation(message, violations));
+            sink.accept(newValidViolation(message, violations));
         }
     }
 
@@ -122,11 +126,11 @@ class MessageFieldValidator extends FieldValidator<Message> {
         if (when == TIME_UNDEFINED) {
             return;
         }
-        Timestamp now = getCurrentTime();
+        Timestamp now = budget().now();
         for (Message value : getValues()) {
             Timestamp time = (Timestamp) value;
             if (isTimeInvalid(time, when, now)) {
-                addViolation(newTimeViolation(time));
+                addViolation(newTimeViolation(time), "when");
                 return; // return because one error message is enough for the "time" option
             }
         }
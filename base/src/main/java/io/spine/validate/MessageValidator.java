@@ -20,20 +20,33 @@
 
 package io.spine.validate;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.Descriptors.FieldDescriptor;
 import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.validate.FieldValidatorFactory.create;
 
 /**
  * Validates messages according to Spine custom protobuf options and provides constraint
  * violations found.
  *
+ * <p>The options of a message type are resolved once, when the first message of the type is
+ * validated, and then are reused via the {@linkplain ValidationPlan validation plan} of the type.
+ *
+ * <p>If there is a {@linkplain GeneratedValidator generated validator} for the message class,
+ * the fields are checked with it first. Only the fields it does not find valid are validated
+ * reflectively.
+ *
  * @author Alexander Litus
  */
 @Internal
@@ -41,9 +54,26 @@ public class MessageValidator {
 
     private final FieldContext rootContext;
 
+    /**
+     * If {@code false}, the {@linkplain GeneratedValidator generated validators} are not used.
+     */
+    private final boolean useGenerated;
+
     /** Creates a new validator instance. */
     public static MessageValidator newInstance() {
-        return new MessageValidator(FieldContext.empty());
+        return new MessageValidator(FieldContext.empty(), true);
+    }
+
+    /**
+     * Creates a new validator instance, which validates the fields of top-level messages
+     * reflectively, even if there is a generated validator for the message class.
+     *
+     * <p>Serves for checking that the generated validators report the same violations
+     * as the reflective validation.
+     */
+    @VisibleForTesting
+    static MessageValidator newReflectiveInstance() {
+        return new MessageValidator(FieldContext.empty(), false);
     }
 
     /**
@@ -56,11 +86,12 @@ public class MessageValidator {
      *                    which is the root for the messages to validate
      */
     static MessageValidator newInstance(FieldContext rootContext) {
-        return new MessageValidator(rootContext);
+        return new MessageValidator(rootContext, true);
     }
 
-    private MessageValidator(FieldContext rootContext) {
+    private MessageValidator(FieldContext rootContext, boolean useGenerated) {
         this.rootContext = rootContext;
+        this.useGenerated = useGenerated;
     }
 
     /**
@@ -70,29 +101,273 @@ public class MessageValidator {
      * @param message a message to validate
      */
     public List<ConstraintViolation> validate(Message message) {
+        ValidationPlan plan = ValidationPlan.of(message.getDescriptorForType());
+        ValidationBudget budget = ValidationBudget.of(ValidationOptions.defaults(), plan);
+        return validate(message, budget, plan, findGenerated(message));
+    }
+
+    /**
+     * Validates messages according to Spine custom protobuf options within the limits
+     * set by the given options.
+     *
+     * <p>The validation stops as soon as a limit is reached. In this case the returned result
+     * is {@linkplain ValidationResult#isTruncated() truncated}.
+     *
+     * @param message a message to validate
+     * @param options the limits of the validation
+     * @return the violations found and the flag telling if the validation was cut short
+     */
+    public ValidationResult validate(Message message, ValidationOptions options) {
+        checkNotNull(options);
+        ValidationPlan plan = ValidationPlan.of(message.getDescriptorForType());
+        ValidationBudget budget = ValidationBudget.of(options, plan);
+        List<ConstraintViolation> violations = validate(message, budget, plan,
+                                                        findGenerated(message));
+        ValidationResult result = new ValidationResult(violations, budget.isTruncated());
+        return result;
+    }
+
+    /**
+     * Validates the message spending the given budget.
+     *
+     * <p>Nested messages are validated with the budget of the enclosing message.
+     */
+    List<ConstraintViolation> validate(Message message, ValidationBudget budget) {
+        ValidationPlan plan = ValidationPlan.of(message.getDescriptorForType());
+        GeneratedValidator<Message> generated = findGenerated(message);
+        return validate(message, budget, plan, generated);
+    }
+
+    /**
+     * Validates the message using the already resolved validation metadata of its type.
+     *
+     * @param message   a message to validate
+     * @param budget    the budget of the validation
+     * @param plan      the validation plan of the message type
+     * @param generated the generated validator for the message class, if any
+     * @return the violations found
+     */
+    List<ConstraintViolation> validate(Message message,
+                                       ValidationBudget budget,
+                                       ValidationPlan plan,
+                                       @Nullable GeneratedValidator<Message> generated) {
+        ValidationListener listener = ValidationListeners.current();
+        long start = listener != null
+                     ? System.nanoTime()
+                     : 0;
         ImmutableList.Builder<ConstraintViolation> result = ImmutableList.builder();
-        validateAlternativeFields(message, result);
-        validateFields(message, result);
+        validateAlternativeFields(message, budget, result);
+        validateFields(message, budget, plan, generated, result);
+        if (listener != null) {
+            notifyValidated(listener, plan.type(), start);
+        }
         return result.build();
     }
 
+    private void notifyValidated(ValidationListener listener, Descriptor type, long start) {
+        long duration = System.nanoTime() - start;
+        listener.onValidated(type, rootContext.depth(), duration);
+    }
+
+    /**
+     * Obtains the generated validator to be used for the passed message.
+     *
+     * @return the generated validator or {@code null} if there is none or the generated
+     *         validators are not used by this instance
+     */
+    @Nullable GeneratedValidator<Message> findGenerated(Message message) {
+        return useGenerated
+               ? GeneratedValidators.find(message)
+               : null;
+    }
+
+    /**
+     * Validates each of the passed messages.
+     *
+     * <p>Messages of the same type share the validation metadata resolved for the type once
+     * per batch.
+     *
+     * @param messages the messages to validate
+     * @return the violations found for each of the messages, in the order of the messages
+     */
+    public ImmutableList<List<ConstraintViolation>>
+    validateAll(Iterable<? extends Message> messages) {
+        checkNotNull(messages);
+        return new BatchValidation(this).validateAll(messages);
+    }
+
+    /**
+     * Validates each of the passed messages using the given executor.
+     *
+     * <p>The messages are split into chunks, which are validated concurrently by
+     * the executor. The method blocks until all the messages are validated.
+     *
+     * @param messages the messages to validate
+     * @param executor the executor to validate the chunks of messages
+     * @return the violations found for each of the messages, in the order of the messages
+     * @see #validateAll(Iterable)
+     */
+    public ImmutableList<List<ConstraintViolation>>
+    validateAll(Iterable<? extends Message> messages, Executor executor) {
+        checkNotNull(messages);
+        checkNotNull(executor);
+        return new BatchValidation(this).validateAll(messages, executor);
+    }
+
+    /**
+     * Lazily validates each of the messages of the passed stream.
+     *
+     * <p>The returned stream has the violations found for each message in the encounter
+     * order of the messages. If the passed stream is parallel, so is the returned one.
+     *
+     * @param messages the messages to validate
+     * @return the stream of the violations found for each of the messages
+     * @see #validateAll(Iterable)
+     */
+    public Stream<List<ConstraintViolation>> validateAll(Stream<? extends Message> messages) {
+        checkNotNull(messages);
+        BatchValidation batch = new BatchValidation(this);
+        return messages.map(batch::validate);
+    }
+
+    /**
+     * Validates the message knowing that another message of the same type is valid.
+     *
+     * <p>Only the fields which differ from the fields of the valid message are validated,
+     * as well as the fields, which may become invalid as time passes. The type-level
+     * constraints are always checked. The result is the same as the result of
+     * {@link #validate(Message)}.
+     *
+     * @param message    a message to validate
+     * @param validState a valid message of the same type
+     * @return the violations found
+     */
+    List<ConstraintViolation> validateChanged(Message message, Message validState) {
+        checkArgument(message.getDescriptorForType() == validState.getDescriptorForType(),
+                      "The valid state must be of the type of the validated message.");
+        ValidationListener listener = ValidationListeners.current();
+        long start = listener != null
+                     ? System.nanoTime()
+                     : 0;
+        ValidationPlan plan = ValidationPlan.of(message.getDescriptorForType());
+        ValidationBudget budget = ValidationBudget.of(ValidationOptions.defaults(), plan);
+        ImmutableList.Builder<ConstraintViolation> result = ImmutableList.builder();
+        validateAlternativeFields(message, budget, result);
+        for (FieldPlan field : plan.fields()) {
+            FieldDescriptor descriptor = field.descriptor();
+            Object value = message.getField(descriptor);
+            boolean unchanged = !field.isTimeDependent()
+                    && value.equals(validState.getField(descriptor));
+            if (unchanged) {
+                continue;
+            }
+            FieldContext fieldContext = rootContext.forChild(descriptor);
+            FieldValidator<?> fieldValidator = create(field, fieldContext, value);
+            result.addAll(fieldValidator.validate(budget));
+        }
+        if (listener != null) {
+            notifyValidated(listener, plan.type(), start);
+        }
+        return result.build();
+    }
+
+    /**
+     * Checks if the message satisfies the constraints set by Spine custom protobuf options.
+     *
+     * <p>Unlike {@link #validate(Message)}, stops on the first violated constraint and
+     * does not report it. Checking a valid message does not create field validators or
+     * constraint violations.
+     *
+     * <p>The {@linkplain ValidationListener listener} is notified of the check as of
+     * the validation of the message, but not of the violated constraint.
+     *
+     * @param message a message to check
+     * @return {@code true} if the message is valid, {@code false} otherwise
+     */
+    public boolean check(Message message) {
+        FieldDescriptor parent = rootContext.isEmpty()
+                                 ? null
+                                 : rootContext.getTarget();
+        ValidationListener listener = ValidationListeners.current();
+        if (listener == null) {
+            return MessageChecker.isValid(message, parent);
+        }
+        long start = System.nanoTime();
+        boolean result = MessageChecker.isValid(message, parent);
+        notifyValidated(listener, message.getDescriptorForType(), start);
+        return result;
+    }
+
+    /**
+     * Validates the message, checking it first.
+     *
+     * <p>If the message is valid, the violations are not looked for. Otherwise, the message
+     * is {@linkplain #validate(Message) validated} to find the violations.
+     *
+     * <p>The {@linkplain ValidationListener listener} is notified once, either of the check
+     * or of the validation, whichever produces the result.
+     *
+     * @param message a message to validate
+     * @return the violations found
+     */
+    List<ConstraintViolation> checkAndValidate(Message message) {
+        FieldDescriptor parent = rootContext.isEmpty()
+                                 ? null
+                                 : rootContext.getTarget();
+        ValidationListener listener = ValidationListeners.current();
+        long start = listener != null
+                     ? System.nanoTime()
+                     : 0;
+        if (!MessageChecker.isValid(message, parent)) {
+            return validate(message);
+        }
+        if (listener != null) {
+            notifyValidated(listener, message.getDescriptorForType(), start);
+        }
+        return ImmutableList.of();
+    }
+
     private void validateAlternativeFields(Message message,
+                                           ValidationBudget budget,
                                            ImmutableList.Builder<ConstraintViolation> result) {
         Descriptor typeDescr = message.getDescriptorForType();
+        if (!ValidationPlan.of(typeDescr)
+                           .hasAlternatives()) {
+            return;
+        }
         AlternativeFieldValidator altFieldValidator =
                 new AlternativeFieldValidator(typeDescr, rootContext);
-        result.addAll(altFieldValidator.validate(message));
+        for (ConstraintViolation violation : altFieldValidator.validate(message)) {
+            if (budget.tryAddViolation()) {
+                result.add(violation);
+                ValidationListener listener = ValidationListeners.current();
+                if (listener != null) {
+                    listener.onViolation(typeDescr, "required_field");
+                }
+            }
+        }
     }
 
     private void validateFields(Message message,
+                                ValidationBudget budget,
+                                ValidationPlan plan,
+                                @Nullable GeneratedValidator<Message> generated,
                                 ImmutableList.Builder<ConstraintViolation> result) {
-        Descriptor msgDescriptor = message.getDescriptorForType();
-        List<FieldDescriptor> fields = msgDescriptor.getFields();
-        for (FieldDescriptor field : fields) {
-            FieldContext fieldContext = rootContext.forChild(field);
-            Object value = message.getField(field);
-            FieldValidator<?> fieldValidator = create(fieldContext, value);
-            List<ConstraintViolation> violations = fieldValidator.validate();
+        FieldDescriptor parent = rootContext.isEmpty()
+                                 ? null
+                                 : rootContext.getTarget();
+        for (FieldPlan field : plan.fields()) {
+            if (budget.skipRemaining()) {
+                return;
+            }
+            if (generated != null && generated.isValid(field, message, parent)) {
+                continue;
+            }
+            FieldDescriptor descriptor = field.descriptor();
+            FieldContext fieldContext = rootContext.forChild(descriptor);
+            Object value = message.getField(descriptor);
+            FieldValidator<?> fieldValidator = create(field, fieldContext, value);
+            List<ConstraintViolation> violations = fieldValidator.validate(budget);
             result.addAll(violations);
         }
     }
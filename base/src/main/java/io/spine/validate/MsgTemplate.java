@@ -0,0 +1,147 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.lang.System.lineSeparator;
+
+/**
+ * A parsed {@code msg_format} of a {@link ConstraintViolation}.
+ *
+ * <p>Most of the formats use only the {@code %s}, {@code %n} and {@code %%} specifiers.
+ * Such a format is split into the literal parts and the parameter references once, so that
+ * formatting a violation is a sequence of appends. Other formats, as well as the formats
+ * referencing more parameters than passed, are formatted with {@link String#format}.
+ * In both cases the result is the same as the one of {@link String#format}.
+ */
+final class MsgTemplate {
+
+    /**
+     * The maximum number of parsed formats to keep.
+     */
+    private static final int MAX_SIZE = 1024;
+
+    private static final LoadingCache<String, MsgTemplate> cache =
+            CacheBuilder.newBuilder()
+                        .maximumSize(MAX_SIZE)
+                        .build(new Loader());
+
+    private final String format;
+
+    /**
+     * The literal parts of the format, one more than the number of the parameter references,
+     * or {@code null} if the format uses the specifiers not supported by the template.
+     */
+    private final @Nullable ImmutableList<String> literals;
+
+    private MsgTemplate(String format, @Nullable ImmutableList<String> literals) {
+        this.format = format;
+        this.literals = literals;
+    }
+
+    /**
+     * Obtains the template for the passed format.
+     */
+    static MsgTemplate of(String format) {
+        checkNotNull(format);
+        return cache.getUnchecked(format);
+    }
+
+    /**
+     * Formats the passed parameters into the given output.
+     *
+     * @param params the values of the parameters referenced by the format
+     * @param out    the output to append to
+     * @throws IOException if the output fails
+     * @throws java.util.IllegalFormatException if the format is invalid or references
+     *         more parameters than passed
+     */
+    void appendTo(List<String> params, Appendable out) throws IOException {
+        if (literals == null || params.size() < literals.size() - 1) {
+            out.append(format(format, params.toArray()));
+            return;
+        }
+        out.append(literals.get(0));
+        for (int i = 1; i < literals.size(); i++) {
+            out.append(params.get(i - 1))
+               .append(literals.get(i));
+        }
+    }
+
+    /**
+     * Splits the format into the literal parts separated by {@code %s} specifiers.
+     *
+     * @return the literal parts or {@code null} if the format has other specifiers
+     */
+    private static @Nullable ImmutableList<String> parse(String format) {
+        ImmutableList.Builder<String> literals = ImmutableList.builder();
+        StringBuilder literal = new StringBuilder(format.length());
+        int length = format.length();
+        for (int i = 0; i < length; i++) {
+            char c = format.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+            if (i + 1 == length) {
+                return null;
+            }
+            char conversion = format.charAt(++i);
+            switch (conversion) {
+                case 's':
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    break;
+                case 'n':
+                    literal.append(lineSeparator());
+                    break;
+                case '%':
+                    literal.append('%');
+                    break;
+                default:
+                    return null;
+            }
+        }
+        literals.add(literal.toString());
+        return literals.build();
+    }
+
+    /**
+     * Parses the formats missing in the cache.
+     */
+    private static final class Loader extends CacheLoader<String, MsgTemplate> {
+
+        @Override
+        public MsgTemplate load(String format) {
+            return new MsgTemplate(format, parse(format));
+        }
+    }
+}
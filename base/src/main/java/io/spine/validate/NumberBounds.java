@@ -0,0 +1,268 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import io.spine.option.DigitsOption;
+
+import java.math.BigDecimal;
+
+import static java.lang.Math.max;
+
+/**
+ * The numeric constraints of a field parsed for the type of the field.
+ *
+ * <p>The {@code min}, {@code max}, {@code decimal_min} and {@code decimal_max} options hold
+ * the bounds as strings. The bounds are parsed once per field, so that the values are
+ * compared as primitives.
+ *
+ * <p>The values of {@code int32} and {@code int64} fields (including the unsigned and fixed
+ * ones) are checked as {@code long}s. The values of {@code float} and {@code double} fields
+ * are checked as {@code double}s. Widening a {@code float} value and a {@code float} bound
+ * to {@code double} does not change the result of the comparison.
+ */
+final class NumberBounds {
+
+    private final JavaType type;
+    private final boolean integral;
+
+    private final boolean hasDecimalMin;
+    private final boolean decimalMinInclusive;
+    private final long decimalMinLong;
+    private final double decimalMinDouble;
+
+    private final boolean hasDecimalMax;
+    private final boolean decimalMaxInclusive;
+    private final long decimalMaxLong;
+    private final double decimalMaxDouble;
+
+    private final boolean hasMin;
+    private final long minLong;
+    private final double minDouble;
+
+    private final boolean hasMax;
+    private final long maxLong;
+    private final double maxDouble;
+
+    private final boolean hasDigits;
+    private final int integerDigitsMax;
+    private final int fractionDigitsMax;
+
+    private NumberBounds(FieldConstraints constraints, JavaType type) {
+        this.type = type;
+        this.integral = type == JavaType.INT || type == JavaType.LONG;
+
+        String decimalMin = constraints.decimalMin()
+                                       .getValue();
+        this.hasDecimalMin = !decimalMin.isEmpty();
+        this.decimalMinInclusive = constraints.decimalMin()
+                                              .getInclusive();
+        this.decimalMinLong = parseLong(decimalMin);
+        this.decimalMinDouble = parseDouble(decimalMin);
+
+        String decimalMax = constraints.decimalMax()
+                                       .getValue();
+        this.hasDecimalMax = !decimalMax.isEmpty();
+        this.decimalMaxInclusive = constraints.decimalMax()
+                                              .getInclusive();
+        this.decimalMaxLong = parseLong(decimalMax);
+        this.decimalMaxDouble = parseDouble(decimalMax);
+
+        String min = constraints.min()
+                                .getValue();
+        this.hasMin = !min.isEmpty();
+        this.minLong = parseLong(min);
+        this.minDouble = parseDouble(min);
+
+        String max = constraints.max()
+                                .getValue();
+        this.hasMax = !max.isEmpty();
+        this.maxLong = parseLong(max);
+        this.maxDouble = parseDouble(max);
+
+        DigitsOption digits = constraints.digits();
+        this.integerDigitsMax = digits.getIntegerMax();
+        this.fractionDigitsMax = digits.getFractionMax();
+        this.hasDigits = integerDigitsMax >= 1 && fractionDigitsMax >= 1;
+    }
+
+    /**
+     * Parses the bounds of the passed constraints for a field of the given type.
+     *
+     * @throws NumberFormatException if a bound cannot be parsed as a number of the type
+     */
+    static NumberBounds of(FieldConstraints constraints, JavaType type) {
+        return new NumberBounds(constraints, type);
+    }
+
+    private long parseLong(String bound) {
+        if (bound.isEmpty() || !integral) {
+            return 0;
+        }
+        return type == JavaType.INT
+               ? Integer.parseInt(bound)
+               : Long.parseLong(bound);
+    }
+
+    private double parseDouble(String bound) {
+        if (bound.isEmpty() || integral) {
+            return 0;
+        }
+        return type == JavaType.FLOAT
+               ? Float.parseFloat(bound)
+               : Double.parseDouble(bound);
+    }
+
+    JavaType type() {
+        return type;
+    }
+
+    /**
+     * Tells if the values are checked as {@code long}s rather than as {@code double}s.
+     */
+    boolean isIntegral() {
+        return integral;
+    }
+
+    /**
+     * Checks if the value satisfies all the numeric constraints.
+     */
+    boolean fits(long value) {
+        return !belowDecimalMin(value)
+                && !aboveDecimalMax(value)
+                && !belowMin(value)
+                && !aboveMax(value)
+                && !exceedsDigits(value);
+    }
+
+    /**
+     * Checks if the value satisfies all the numeric constraints.
+     */
+    boolean fits(double value) {
+        return !belowDecimalMin(value)
+                && !aboveDecimalMax(value)
+                && !belowMin(value)
+                && !aboveMax(value)
+                && !exceedsDigits(value);
+    }
+
+    boolean belowDecimalMin(long value) {
+        if (!hasDecimalMin) {
+            return false;
+        }
+        int comparison = Long.compare(value, decimalMinLong);
+        return decimalMinInclusive
+               ? comparison < 0
+               : comparison <= 0;
+    }
+
+    boolean belowDecimalMin(double value) {
+        if (!hasDecimalMin) {
+            return false;
+        }
+        int comparison = Double.compare(value, decimalMinDouble);
+        return decimalMinInclusive
+               ? comparison < 0
+               : comparison <= 0;
+    }
+
+    boolean aboveDecimalMax(long value) {
+        if (!hasDecimalMax) {
+            return false;
+        }
+        int comparison = Long.compare(value, decimalMaxLong);
+        return decimalMaxInclusive
+               ? comparison > 0
+               : comparison >= 0;
+    }
+
+    boolean aboveDecimalMax(double value) {
+        if (!hasDecimalMax) {
+            return false;
+        }
+        int comparison = Double.compare(value, decimalMaxDouble);
+        return decimalMaxInclusive
+               ? comparison > 0
+               : comparison >= 0;
+    }
+
+    boolean belowMin(long value) {
+        return hasMin && value < minLong;
+    }
+
+    boolean belowMin(double value) {
+        return hasMin && Double.compare(value, minDouble) < 0;
+    }
+
+    boolean aboveMax(long value) {
+        return hasMax && value > maxLong;
+    }
+
+    boolean aboveMax(double value) {
+        return hasMax && Double.compare(value, maxDouble) > 0;
+    }
+
+    /**
+     * Checks if the value has more integer digits than the {@code digits} option allows.
+     *
+     * <p>An integral value has no fraction digits.
+     */
+    boolean exceedsDigits(long value) {
+        if (!hasDigits) {
+            return false;
+        }
+        return integerDigits(value) > integerDigitsMax;
+    }
+
+    /**
+     * Checks if the value has more integer or fraction digits than the {@code digits}
+     * option allows.
+     *
+     * <p>The digits are counted in the shortest decimal representation of the value, which is
+     * the one produced by {@link Double#toString(double)} or {@link Float#toString(float)}.
+     */
+    boolean exceedsDigits(double value) {
+        if (!hasDigits || Double.isNaN(value) || Double.isInfinite(value)) {
+            return false;
+        }
+        String shortest = type == JavaType.FLOAT
+                          ? Float.toString((float) value)
+                          : Double.toString(value);
+        BigDecimal decimal = new BigDecimal(shortest).stripTrailingZeros();
+        int scale = decimal.scale();
+        int integerDigits = max(1, decimal.precision() - scale);
+        int fractionDigits = max(0, scale);
+        return integerDigits > integerDigitsMax || fractionDigits > fractionDigitsMax;
+    }
+
+    /**
+     * Counts the decimal digits of the absolute value.
+     */
+    private static int integerDigits(long value) {
+        int digits = 1;
+        long rest = value / 10;
+        while (rest != 0) {
+            digits++;
+            rest /= 10;
+        }
+        return digits;
+    }
+}
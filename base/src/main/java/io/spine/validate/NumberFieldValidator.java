@@ -28,9 +28,6 @@ import io.spine.option.DecimalMinOption;
 import io.spine.option.DigitsOption;
 import io.spine.option.MaxOption;
 import io.spine.option.MinOption;
-import io.spine.option.OptionsProto;
-
-import java.util.regex.Pattern;
 
 import static io.spine.protobuf.TypeConverter.toAny;
 
@@ -42,19 +39,19 @@ import static io.spine.protobuf.TypeConverter.toAny;
  */
 abstract class NumberFieldValidator<V extends Number & Comparable<V>> extends FieldValidator<V> {
 
-    private static final Pattern PATTERN_DOT = Pattern.compile("\\.");
-
     private final DecimalMinOption minDecimalOpt;
-    private final boolean isMinDecimalInclusive;
-
     private final DecimalMaxOption maxDecimalOpt;
-    private final boolean isMaxDecimalInclusive;
 
     private final MinOption minOption;
     private final MaxOption maxOption;
 
     private final DigitsOption digitsOption;
 
+    /**
+     * The bounds parsed once per field, so that the values are compared as primitives.
+     */
+    private final NumberBounds bounds;
+
     /**
      * Creates a new validator instance.
      *
@@ -63,21 +60,16 @@ abstract class NumberFieldValidator<V extends Number & Comparable<V>> extends Fi
      */
     NumberFieldValidator(FieldContext fieldContext, ImmutableList<V> fieldValues) {
         super(fieldContext, fieldValues, false);
-        this.minDecimalOpt = getFieldOption(OptionsProto.decimalMin);
-        this.isMinDecimalInclusive = minDecimalOpt.getInclusive();
-        this.maxDecimalOpt = getFieldOption(OptionsProto.decimalMax);
-        this.isMaxDecimalInclusive = maxDecimalOpt.getInclusive();
-        this.minOption = getFieldOption(OptionsProto.min);
-        this.maxOption = getFieldOption(OptionsProto.max);
-        this.digitsOption = getFieldOption(OptionsProto.digits);
+        FieldConstraints constraints = constraints();
+        this.minDecimalOpt = constraints.decimalMin();
+        this.maxDecimalOpt = constraints.decimalMax();
+        this.minOption = constraints.min();
+        this.maxOption = constraints.max();
+        this.digitsOption = constraints.digits();
+        this.bounds = constraints.numberBounds(fieldContext.getTarget()
+                                                          .getJavaType());
     }
 
-    /** Converts a string representation to a number. */
-    protected abstract V toNumber(String value);
-
-    /** Returns an absolute value of the number. */
-    protected abstract V getAbs(V number);
-
     /**
      * Wraps a value to a corresponding message wrapper
      * ({@link com.google.protobuf.DoubleValue DoubleValue},
@@ -90,9 +82,16 @@ abstract class NumberFieldValidator<V extends Number & Comparable<V>> extends Fi
 
     @Override
     protected void validateOwnRules() {
+        boolean integral = bounds.isIntegral();
         for (V value : getValues()) {
-            validateRangeOptions(value);
-            validateDigitsOption(value);
+            if (limitReached()) {
+                return;
+            }
+            if (integral) {
+                validateIntegral(value.longValue(), value);
+            } else {
+                validateFloatingPoint(value.doubleValue(), value);
+            }
         }
     }
 
@@ -103,91 +102,74 @@ abstract class NumberFieldValidator<V extends Number & Comparable<V>> extends Fi
         return result;
     }
 
-    private void validateRangeOptions(V value) {
-        if (notFitToDecimalMin(value)) {
-            addViolation(
-                    newDecimalViolation(value, minDecimalOpt, minDecimalOpt.getMsgFormat(),
-                                        minDecimalOpt.getInclusive(), minDecimalOpt.getValue()));
+    /**
+     * Validates a value of an integral field.
+     *
+     * @param primitive the value to check
+     * @param value     the same value to report in a violation
+     */
+    private void validateIntegral(long primitive, V value) {
+        if (bounds.belowDecimalMin(primitive)) {
+            addDecimalMinViolation(value);
+        }
+        if (bounds.aboveDecimalMax(primitive)) {
+            addDecimalMaxViolation(value);
         }
-        if (notFitToDecimalMax(value)) {
-            addViolation(
-                    newDecimalViolation(value, maxDecimalOpt, maxDecimalOpt.getMsgFormat(),
-                                        maxDecimalOpt.getInclusive(), maxDecimalOpt.getValue()));
+        if (bounds.belowMin(primitive)) {
+            addMinViolation(value);
         }
-        if (notFitToMin(value)) {
-            addViolation(newMinOrMaxViolation(value, minOption, minOption.getMsgFormat(),
-                                              minOption.getValue()));
+        if (bounds.aboveMax(primitive)) {
+            addMaxViolation(value);
         }
-        if (notFitToMax(value)) {
-            addViolation(newMinOrMaxViolation(value, maxOption, maxOption.getMsgFormat(),
-                                              maxOption.getValue()));
+        if (bounds.exceedsDigits(primitive)) {
+            addViolation(newDigitsViolation(value), "digits");
         }
     }
 
-    private boolean notFitToDecimalMin(V value) {
-        String minAsString = minDecimalOpt.getValue();
-        if (minAsString.isEmpty()) {
-            return false;
+    /**
+     * Validates a value of a floating point field.
+     *
+     * @param primitive the value to check
+     * @param value     the same value to report in a violation
+     */
+    private void validateFloatingPoint(double primitive, V value) {
+        if (bounds.belowDecimalMin(primitive)) {
+            addDecimalMinViolation(value);
+        }
+        if (bounds.aboveDecimalMax(primitive)) {
+            addDecimalMaxViolation(value);
+        }
+        if (bounds.belowMin(primitive)) {
+            addMinViolation(value);
+        }
+        if (bounds.aboveMax(primitive)) {
+            addMaxViolation(value);
+        }
+        if (bounds.exceedsDigits(primitive)) {
+            addViolation(newDigitsViolation(value), "digits");
         }
-        V min = toNumber(minAsString);
-        int comparisonResult = value.compareTo(min);
-        boolean fits = isMinDecimalInclusive
-                       ? comparisonResult >= 0
-                       : comparisonResult > 0;
-        boolean notFit = !fits;
-        return notFit;
     }
 
-    private boolean notFitToDecimalMax(V value) {
-        String maxAsString = maxDecimalOpt.getValue();
-        if (maxAsString.isEmpty()) {
-            return false;
-        }
-        V max = toNumber(maxAsString);
-        boolean fits = isMaxDecimalInclusive
-                       ? value.compareTo(max) <= 0
-                       : value.compareTo(max) < 0;
-        boolean notFit = !fits;
-        return notFit;
+    private void addDecimalMinViolation(V value) {
+        addViolation(newDecimalViolation(value, minDecimalOpt, minDecimalOpt.getMsgFormat(),
+                                         minDecimalOpt.getInclusive(), minDecimalOpt.getValue()),
+                     "decimal_min");
     }
 
-    private boolean notFitToMin(V value) {
-        String minAsString = minOption.getValue();
-        if (minAsString.isEmpty()) {
-            return false;
-        }
-        V min = toNumber(minAsString);
-        boolean isGreaterThanOrEqualToMin = value.compareTo(min) >= 0;
-        boolean notFits = !isGreaterThanOrEqualToMin;
-        return notFits;
+    private void addDecimalMaxViolation(V value) {
+        addViolation(newDecimalViolation(value, maxDecimalOpt, maxDecimalOpt.getMsgFormat(),
+                                         maxDecimalOpt.getInclusive(), maxDecimalOpt.getValue()),
+                     "decimal_max");
     }
 
-    private boolean notFitToMax(V value) {
-        String maxAsString = maxOption.getValue();
-        if (maxAsString.isEmpty()) {
-            return false;
-        }
-        V max = toNumber(maxAsString);
-        boolean isLessThanOrEqualToMax = value.compareTo(max) <= 0;
-        boolean notFit = !isLessThanOrEqualToMax;
-        return notFit;
+    private void addMinViolation(V value) {
+        addViolation(newMinOrMaxViolation(value, minOption, minOption.getMsgFormat(),
+                                          minOption.getValue()), "min");
     }
 
-    private void validateDigitsOption(V value) {
-        int intDigitsMax = digitsOption.getIntegerMax();
-        int fractionDigitsMax = digitsOption.getFractionMax();
-        if (intDigitsMax < 1 || fractionDigitsMax < 1) {
-            return;
-        }
-        V abs = getAbs(value);
-        String[] parts = PATTERN_DOT.split(String.valueOf(abs));
-        int intDigitsCount = parts[0].length();
-        int fractionDigitsCount = parts[1].length();
-        boolean isInvalid = (intDigitsCount > intDigitsMax) ||
-                (fractionDigitsCount > fractionDigitsMax);
-        if (isInvalid) {
-            addViolation(newDigitsViolation(value));
-        }
+    private void addMaxViolation(V value) {
+        addViolation(newMinOrMaxViolation(value, maxOption, maxOption.getMsgFormat(),
+                                          maxOption.getValue()), "max");
     }
 
     private ConstraintViolation newDecimalViolation(V value,
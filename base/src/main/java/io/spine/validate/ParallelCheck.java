@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static java.lang.Math.max;
+
+/**
+ * Checks the values of a large repeated or map field in parallel.
+ *
+ * <p>The values are split into chunks, each of which is checked by a separate task.
+ * The violations are collected in the order of the values, so that the result is the same
+ * as the one of the sequential check.
+ *
+ * @param <T> the type of the checked values
+ */
+final class ParallelCheck<T> extends RecursiveTask<List<ConstraintViolation>> {
+
+    private static final long serialVersionUID = 0L;
+
+    /**
+     * The number of chunks per a worker thread of the pool.
+     *
+     * <p>More chunks than threads let the pool balance the load if some values take
+     * longer to check than others.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final List<T> values;
+    private final BiConsumer<T, Consumer<ConstraintViolation>> check;
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+
+    private ParallelCheck(List<T> values,
+                          BiConsumer<T, Consumer<ConstraintViolation>> check,
+                          int from,
+                          int to,
+                          int chunkSize) {
+        super();
+        this.values = values;
+        this.check = check;
+        this.from = from;
+        this.to = to;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Checks the given values in the given pool.
+     *
+     * @param pool   the pool to run the check in
+     * @param values the values to check
+     * @param check  the check of a single value, which passes the found violations
+     *               to the given consumer
+     * @param <T>    the type of the values
+     * @return the violations found in the order of the checked values
+     */
+    static <T> List<ConstraintViolation>
+    run(ForkJoinPool pool, List<T> values, BiConsumer<T, Consumer<ConstraintViolation>> check) {
+        int chunks = pool.getParallelism() * CHUNKS_PER_THREAD;
+        int chunkSize = max(1, values.size() / chunks);
+        ParallelCheck<T> task = new ParallelCheck<>(values, check, 0, values.size(), chunkSize);
+        List<ConstraintViolation> result = ForkJoinTask.getPool() == pool
+                                           ? task.invoke()
+                                           : pool.invoke(task);
+        return result;
+    }
+
+    @Override
+    protected List<ConstraintViolation> compute() {
+        if (to - from <= chunkSize) {
+            return checkChunk();
+        }
+        int middle = (from + to) >>> 1;
+        ParallelCheck<T> left = new ParallelCheck<>(values, check, from, middle, chunkSize);
+        ParallelCheck<T> right = new ParallelCheck<>(values, check, middle, to, chunkSize);
+        left.fork();
+        List<ConstraintViolation> rightViolations = right.compute();
+        List<ConstraintViolation> leftViolations = left.join();
+        if (rightViolations.isEmpty()) {
+            return leftViolations;
+        }
+        if (leftViolations.isEmpty()) {
+            return rightViolations;
+        }
+        leftViolations.addAll(rightViolations);
+        return leftViolations;
+    }
+
+    private List<ConstraintViolation> checkChunk() {
+        List<ConstraintViolation> violations = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            check.accept(values.get(i), violations::add);
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.common.base.Splitter;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import io.spine.logging.Logging;
+import io.spine.option.OptionsProto;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * The compiled {@code (required_field)} option of a message type.
+ *
+ * <p>The option expression is parsed once per message type into the alternatives, each of
+ * which is a set of fields to be populated together. The field names are resolved to
+ * the {@linkplain FieldPlan plans} of the fields at the same time. An alternative referring to
+ * a field unknown to the type is reported once per type, even if the plan is built again,
+ * and never matches.
+ *
+ * <p>See definition of {@code MessageOptions.required_field} in {@code validate.proto}.
+ */
+final class RequiredFieldAlternatives {
+
+    /**
+     * The separator of field name (or field combination) options.
+     */
+    private static final char OPTION_SEPARATOR = '|';
+
+    /**
+     * Combination of fields are made with ampersand.
+     */
+    private static final char AMPERSAND = '&';
+
+    /**
+     * The pattern to remove whitespace from the option field value.
+     */
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * The types for which the unknown fields of the option are already reported.
+     *
+     * <p>Is kept apart from the {@linkplain ValidationPlan plans}, which may be evicted and
+     * built again. The types are held via weak references.
+     */
+    private static final Set<Descriptor> reportedTypes = Collections.newSetFromMap(
+            CacheBuilder.newBuilder()
+                        .weakKeys()
+                        .<Descriptor, Boolean>build()
+                        .asMap()
+    );
+
+    private final String expression;
+
+    /**
+     * The alternatives which may be found in a message.
+     *
+     * <p>Does not include the alternatives referring to unknown fields.
+     */
+    private final ImmutableList<ImmutableList<FieldPlan>> alternatives;
+
+    private RequiredFieldAlternatives(String expression,
+                                      ImmutableList<ImmutableList<FieldPlan>> alternatives) {
+        this.expression = expression;
+        this.alternatives = alternatives;
+    }
+
+    /**
+     * Compiles the {@code (required_field)} option of the message type.
+     *
+     * @param plan the validation plan of the message type
+     * @return the compiled option or {@code null} if the type does not declare the option
+     */
+    static @Nullable RequiredFieldAlternatives compile(ValidationPlan plan) {
+        Descriptor type = plan.type();
+        if (!type.getOptions()
+                 .hasExtension(OptionsProto.requiredField)) {
+            return null;
+        }
+        String expression = type.getOptions()
+                                .getExtension(OptionsProto.requiredField);
+        String whiteSpaceRemoved = WHITESPACE.matcher(expression)
+                                             .replaceAll("");
+        ImmutableList.Builder<ImmutableList<FieldPlan>> alternatives = ImmutableList.builder();
+        Iterable<String> parts = Splitter.on(OPTION_SEPARATOR)
+                                         .split(whiteSpaceRemoved);
+        Set<String> unknownFields = new LinkedHashSet<>();
+        for (String part : parts) {
+            ImmutableList<FieldPlan> fields = resolve(plan, part, unknownFields);
+            if (fields != null) {
+                alternatives.add(fields);
+            }
+        }
+        if (!unknownFields.isEmpty()) {
+            reportUnknown(type, unknownFields);
+        }
+        return new RequiredFieldAlternatives(expression, alternatives.build());
+    }
+
+    /**
+     * Resolves the fields of an alternative.
+     *
+     * @param unknownFields the names of the unknown fields found so far
+     * @return the plans of the fields or {@code null} if any of the fields is unknown
+     */
+    private static @Nullable ImmutableList<FieldPlan> resolve(ValidationPlan plan,
+                                                              String alternative,
+                                                              Set<String> unknownFields) {
+        Iterable<String> fieldNames = alternative.indexOf(AMPERSAND) > 0
+                                      ? Splitter.on(AMPERSAND)
+                                                .split(alternative)
+                                      : ImmutableList.of(alternative);
+        ImmutableList.Builder<FieldPlan> fields = ImmutableList.builder();
+        Descriptor type = plan.type();
+        boolean allKnown = true;
+        for (String fieldName : fieldNames) {
+            FieldDescriptor field = type.findFieldByName(fieldName);
+            if (field == null) {
+                unknownFields.add(fieldName);
+                allKnown = false;
+            } else {
+                fields.add(plan.field(field));
+            }
+        }
+        return allKnown
+               ? fields.build()
+               : null;
+    }
+
+    /**
+     * Reports the unknown fields referenced by the option of the type, unless they are
+     * already reported.
+     */
+    private static void reportUnknown(Descriptor type, Set<String> fieldNames) {
+        if (reportedTypes.add(type)) {
+            log().warn("The fields `{}` referenced by the `required_field` option " +
+                               "are not found in `{}`.", fieldNames, type.getFullName());
+        }
+    }
+
+    /**
+     * Obtains the option expression as declared in the message type.
+     */
+    String expression() {
+        return expression;
+    }
+
+    /**
+     * Tells if any of the alternatives is found in the message.
+     *
+     * <p>An alternative is found if all its fields are set and valid.
+     *
+     * @param message the message to check
+     * @param parent  the field referencing the message or {@code null} for a top-level message
+     */
+    boolean foundIn(Message message, @Nullable FieldDescriptor parent) {
+        for (ImmutableList<FieldPlan> alternative : alternatives) {
+            if (allSet(alternative, message, parent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean allSet(ImmutableList<FieldPlan> fields,
+                                  Message message,
+                                  @Nullable FieldDescriptor parent) {
+        for (FieldPlan field : fields) {
+            FieldConstraints constraints = field.constraintsIn(parent);
+            if (!MessageChecker.isValid(field, constraints, message, true)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Logger log() {
+        return Logging.get(RequiredFieldAlternatives.class);
+    }
+}
@@ -20,8 +20,13 @@
 
 package io.spine.validate;
 
-import io.spine.option.OptionsProto;
+import com.google.common.collect.ImmutableList;
 import io.spine.option.PatternOption;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static io.spine.protobuf.TypeConverter.toAny;
 
@@ -34,6 +39,7 @@ class StringFieldValidator extends FieldValidator<String> {
 
     private final PatternOption patternOption;
     private final String regex;
+    private final @Nullable Pattern pattern;
 
     /**
      * Creates a new validator instance.
@@ -47,8 +53,9 @@ class StringFieldValidator extends FieldValidator<String> {
                          Object fieldValues,
                          boolean strict) {
         super(fieldContext, FieldValidator.<String>toValueList(fieldValues), strict);
-        this.patternOption = getFieldOption(OptionsProto.pattern);
+        this.patternOption = constraints().pattern();
         this.regex = patternOption.getRegex();
+        this.pattern = constraints().compiledPattern();
     }
 
     @Override
@@ -57,16 +64,42 @@ class StringFieldValidator extends FieldValidator<String> {
     }
 
     private void checkIfMatchesToRegexp() {
-        if (regex.isEmpty()) {
+        if (pattern == null) {
+            return;
+        }
+        ImmutableList<String> values = getValues();
+        if (budget().isParallelFor(values.size())) {
+            checkEach(values, this::checkMatches, this::addPatternViolation);
             return;
         }
-        for (String value : getValues()) {
-            if (!value.matches(regex)) {
-                addViolation(newViolation(value));
+        Matcher matcher = null;
+        for (String value : values) {
+            if (limitReached()) {
+                return;
+            }
+            matcher = matcher == null
+                      ? pattern.matcher(value)
+                      : matcher.reset(value);
+            if (!matcher.matches()) {
+                addPatternViolation(newViolation(value));
             }
         }
     }
 
+    /**
+     * Checks a single value with a matcher of its own, so that values can be
+     * checked concurrently.
+     */
+    private void checkMatches(String value, Consumer<ConstraintViolation> sink) {
+        if (pattern != null && !pattern.matcher(value).matches()) {
+            sink.accept(newViolation(value));
+        }
+    }
+
+    private void addPatternViolation(ConstraintViolation violation) {
+        addViolation(violation, "pattern");
+    }
+
     private ConstraintViolation newViolation(String fieldValue) {
         String msg = getErrorMsgFormat(patternOption, patternOption.getMsgFormat());
         ConstraintViolation violation =
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.Message;
+
+/**
+ * Remembers message instances which passed the validation in a
+ * {@linkplain AbstractValidatingBuilder validating builder}.
+ *
+ * <p>Messages are immutable, so a valid message instance stays valid, except for
+ * the {@linkplain FieldPlan#isTimeDependent() time-dependent} constraints. A builder, which
+ * starts from a known valid state, only validates the fields changed since.
+ *
+ * <p>The instances are compared by identity and are held via weak references, so that
+ * remembering a message does not prevent it from being garbage collected.
+ */
+final class ValidMessages {
+
+    private static final Cache<Message, Boolean> known = CacheBuilder.newBuilder()
+                                                                     .weakKeys()
+                                                                     .build();
+
+    /** Prevents instantiation of this utility class. */
+    private ValidMessages() {
+    }
+
+    /**
+     * Remembers the passed message as a valid one.
+     */
+    static void remember(Message message) {
+        known.put(message, Boolean.TRUE);
+    }
+
+    /**
+     * Tells if the passed message instance is known to be valid.
+     */
+    static boolean isKnown(Message message) {
+        boolean result = known.getIfPresent(message) != null;
+        return result;
+    }
+}
@@ -280,9 +280,56 @@ public final class Validate {
         checkNotNull(message);
 
         List<ConstraintViolation> violations = MessageValidator.newInstance()
-                                                               .validate(message);
+                                                               .checkAndValidate(message);
         if (!violations.isEmpty()) {
             throw new ValidationException(violations);
         }
     }
+
+    /**
+     * Validates the given message within the limits of the passed options and throws
+     * {@code ValidationException} if any constraints are violated.
+     *
+     * <p>If a limit cuts the validation short, the thrown exception is
+     * {@linkplain ValidationException#isTruncated() truncated}. Constraints of the fields
+     * deeper than the {@linkplain ValidationOptions#maxDepth() max depth} are not checked.
+     *
+     * @param message the message to validate
+     * @param options the limits of the validation
+     * @throws ValidationException if the passed message does not satisfy the constraints
+     *                             set for it in its Protobuf definition
+     */
+    public static void checkValid(Message message, ValidationOptions options)
+            throws ValidationException {
+        checkNotNull(message);
+        checkNotNull(options);
+
+        if (options.isUnlimited()) {
+            checkValid(message);
+            return;
+        }
+        // The limited validation is not preceded by the check, as the check is not limited.
+        ValidationResult result = MessageValidator.newInstance()
+                                                  .validate(message, options);
+        if (!result.isValid()) {
+            throw new ValidationException(result.violations(), result.isTruncated());
+        }
+    }
+
+    /**
+     * Verifies if the given message satisfies the constraints set for it in
+     * its Protobuf definition.
+     *
+     * <p>The check stops on the first violated constraint. Use
+     * {@link #checkValid(Message)} to obtain the violations.
+     *
+     * @param message the message to check
+     * @return {@code true} if the message is valid, {@code false} otherwise
+     */
+    public static boolean isValid(Message message) {
+        checkNotNull(message);
+        boolean result = MessageValidator.newInstance()
+                                         .check(message);
+        return result;
+    }
 }
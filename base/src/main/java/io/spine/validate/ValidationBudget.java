@@ -0,0 +1,198 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.protobuf.Timestamp;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static io.spine.base.Time.getCurrentTime;
+
+/**
+ * Tracks the limits of a single validation set by {@link ValidationOptions}.
+ *
+ * <p>An instance is created per validated top-level message and is shared by all the field
+ * validators involved, including the ones for the nested messages.
+ *
+ * <p>Also tells the field validators if the values of a field should be
+ * {@linkplain #isParallelFor(int) validated in parallel}, and holds
+ * {@linkplain #now() the current time} shared by all the {@code (when)} checks of
+ * the validation.
+ */
+final class ValidationBudget {
+
+    private static final ValidationBudget UNLIMITED =
+            new ValidationBudget(ValidationOptions.defaults(), null);
+
+    private final ValidationOptions options;
+    private final boolean limited;
+    private final boolean countsViolations;
+    private final int maxDepth;
+    private int remainingViolations;
+
+    /**
+     * The time captured when the validation started, or {@code null} if the validated
+     * message has no time-dependent fields.
+     */
+    private final @Nullable Timestamp now;
+
+    /**
+     * Is volatile, as the values of large fields may be validated in parallel.
+     */
+    private volatile boolean truncated;
+
+    /**
+     * Tells if a violation was found beyond the limit of violations.
+     *
+     * <p>Is not volatile, as the validation limiting violations is never parallel.
+     */
+    private boolean violationSuppressed;
+
+    private ValidationBudget(ValidationOptions options, @Nullable Timestamp now) {
+        this.options = options;
+        this.now = now;
+        this.limited = !options.isUnlimited();
+        this.countsViolations = options.limitsViolations();
+        this.maxDepth = options.maxDepth();
+        this.remainingViolations = options.maxViolations();
+    }
+
+    /**
+     * Obtains the budget which never stops a validation.
+     *
+     * <p>The returned instance is shared, as it is never modified.
+     */
+    static ValidationBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Creates a new budget for a validation with the given options.
+     */
+    static ValidationBudget of(ValidationOptions options) {
+        return of(options, false);
+    }
+
+    /**
+     * Creates a new budget for a validation of a message of the given type.
+     *
+     * <p>If the type is {@linkplain ValidationPlan#isTimeDependent() time-dependent},
+     * captures the current time, so that all the fields are checked against the same moment.
+     * The time is obtained from the {@linkplain io.spine.base.Time#getCurrentTime() provider}
+     * of the calling thread.
+     */
+    static ValidationBudget of(ValidationOptions options, ValidationPlan plan) {
+        return of(options, plan.isTimeDependent());
+    }
+
+    private static ValidationBudget of(ValidationOptions options, boolean captureTime) {
+        if (captureTime) {
+            return new ValidationBudget(options, getCurrentTime());
+        }
+        return options.isUnlimited()
+               ? UNLIMITED
+               : new ValidationBudget(options, null);
+    }
+
+    /**
+     * Obtains the current time for the {@code (when)} checks.
+     *
+     * <p>Returns the time captured when the validation started, if any. Otherwise, obtains
+     * the time from the provider.
+     */
+    Timestamp now() {
+        return now != null
+               ? now
+               : getCurrentTime();
+    }
+
+    /**
+     * Accounts for a found violation.
+     *
+     * <p>If the limit of violations is already reached, the violation is suppressed and
+     * the budget is marked as truncated.
+     *
+     * @return {@code true} if the violation should be reported, {@code false} if
+     *         the limit of violations is already reached
+     */
+    boolean tryAddViolation() {
+        if (!countsViolations) {
+            return true;
+        }
+        if (remainingViolations == 0) {
+            violationSuppressed = true;
+            truncated = true;
+            return false;
+        }
+        remainingViolations--;
+        return true;
+    }
+
+    /**
+     * Tells if the rest of the validation should be skipped.
+     *
+     * <p>Callers ask before performing a next check. The checks are skipped once a violation
+     * is found beyond the limit, so that a message with exactly the allowed number of
+     * violations is validated completely and the result is not marked as truncated.
+     */
+    boolean skipRemaining() {
+        return violationSuppressed;
+    }
+
+    /**
+     * Tells if the fields at the given depth should be validated.
+     *
+     * <p>If the depth exceeds the limit, the budget is marked as truncated.
+     */
+    boolean allowsDepth(int depth) {
+        if (depth <= maxDepth) {
+            return true;
+        }
+        truncated = true;
+        return false;
+    }
+
+    /**
+     * Tells if the values of a field with the given number of values should be validated
+     * in parallel.
+     *
+     * <p>The parallel validation is never used along with the limit of violations, so
+     * the violations found in parallel are not counted.
+     */
+    boolean isParallelFor(int valueCount) {
+        return limited && options.isParallelFor(valueCount);
+    }
+
+    /**
+     * Obtains the pool for the parallel validation.
+     */
+    ForkJoinPool pool() {
+        return options.pool();
+    }
+
+    /**
+     * Tells if any of the limits cut the validation short.
+     */
+    boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -49,9 +49,27 @@ public class ValidationException extends RuntimeException {
      */
     private final List<ConstraintViolation> constraintViolations;
 
+    /**
+     * Tells if the validation was stopped before all the violations were found.
+     */
+    private final boolean truncated;
+
     public ValidationException(Iterable<ConstraintViolation> violations) {
+        this(violations, false);
+    }
+
+    /**
+     * Creates a new exception with the violations found by a validation, which
+     * may have been cut short by {@link ValidationOptions}.
+     *
+     * @param violations the violations found
+     * @param truncated  {@code true} if the validation stopped before all
+     *                   the violations were found
+     */
+    public ValidationException(Iterable<ConstraintViolation> violations, boolean truncated) {
         super();
         this.constraintViolations = ImmutableList.copyOf(violations);
+        this.truncated = truncated;
     }
 
     @SuppressWarnings({"AssignmentOrReturnOfFieldWithMutableType" /* returns immutable impl. */,
@@ -60,6 +78,13 @@ public class ValidationException extends RuntimeException {
         return constraintViolations;
     }
 
+    /**
+     * Tells if the reported violations may be not all the violations of the message.
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
     @Override
     public String toString() {
         ToStringHelper helper = MoreObjects.toStringHelper(this);
@@ -71,8 +96,11 @@ public class ValidationException extends RuntimeException {
                                                     .map(TO_STRING_FN)
                                                     .collect(toList()));
 
-        return helper.add("constraintViolations", violationContent)
-                     .toString();
+        helper.add("constraintViolations", violationContent);
+        if (truncated) {
+            helper.add("truncated", true);
+        }
+        return helper.toString();
     }
 
     /**
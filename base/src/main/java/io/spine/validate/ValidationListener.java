@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import io.spine.annotation.SPI;
+
+/**
+ * Observes the validation of messages.
+ *
+ * <p>A listener is {@linkplain ValidationListeners#register(ValidationListener) registered}
+ * once per JVM. When no listener is registered, the validation does not spend any time
+ * on the notifications besides checking if there is a listener.
+ *
+ * <p>The methods are called from the threads performing the validation, so implementations
+ * must be thread-safe and fast.
+ *
+ * @see ValidationMetrics
+ */
+@SPI
+public interface ValidationListener {
+
+    /**
+     * Called when a message is validated.
+     *
+     * <p>Messages of fields marked with {@code (valid)} are reported separately from
+     * the enclosing message. The duration of the enclosing message validation includes
+     * the duration of the nested ones.
+     *
+     * @param type          the type of the validated message
+     * @param depth         the depth of the message in the validated tree, which is {@code 0}
+     *                      for a top-level message
+     * @param durationNanos the time spent on the validation in nanoseconds
+     */
+    void onValidated(Descriptor type, int depth, long durationNanos);
+
+    /**
+     * Called when a constraint violation is reported.
+     *
+     * @param type   the type of the message in which the constraint is violated
+     * @param option the name of the violated option, such as {@code "pattern"} or
+     *               {@code "required_field"}; {@code "entity_id"} denotes the rules applied
+     *               to the first field of a command message
+     */
+    void onViolation(Descriptor type, String option);
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import io.spine.annotation.SPI;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The registry of the {@link ValidationListener}.
+ */
+@SPI
+public final class ValidationListeners {
+
+    private static volatile @Nullable ValidationListener listener;
+
+    /** Prevents instantiation of this utility class. */
+    private ValidationListeners() {
+    }
+
+    /**
+     * Registers the listener for all the validations in the JVM.
+     *
+     * <p>Replaces the previously registered listener, if any.
+     */
+    public static void register(ValidationListener newListener) {
+        checkNotNull(newListener);
+        listener = newListener;
+    }
+
+    /**
+     * Removes the registered listener, if any.
+     */
+    public static void unregister() {
+        listener = null;
+    }
+
+    /**
+     * Obtains the registered listener.
+     *
+     * @return the listener or {@code null} if there is none
+     */
+    static @Nullable ValidationListener current() {
+        return listener;
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Descriptors.Descriptor;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The in-memory {@link ValidationListener} collecting the validation metrics per message type.
+ *
+ * <p>The counters are based on {@link LongAdder}s, so that concurrent validations do not
+ * contend. The metrics can be read at any time, e.g. by a metrics exporter, while
+ * the validation goes on.
+ *
+ * <p>Usage:
+ * <pre>{@code
+ * ValidationMetrics metrics = new ValidationMetrics();
+ * ValidationListeners.register(metrics);
+ * ...
+ * metrics.of("spine.test.Task")
+ *        .ifPresent(m -> log(m.validations(), m.percentileNanos(0.99)));
+ * }</pre>
+ */
+public final class ValidationMetrics implements ValidationListener {
+
+    private final ConcurrentMap<String, TypeMetrics> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public void onValidated(Descriptor type, int depth, long durationNanos) {
+        metricsOf(type).recordValidation(depth, durationNanos);
+    }
+
+    @Override
+    public void onViolation(Descriptor type, String option) {
+        metricsOf(type).recordViolation(option);
+    }
+
+    /**
+     * Obtains the names of the message types validated so far.
+     */
+    public ImmutableSet<String> types() {
+        return ImmutableSet.copyOf(metrics.keySet());
+    }
+
+    /**
+     * Obtains the metrics of the message type.
+     *
+     * @param typeName the full name of the message type
+     * @return the metrics or {@code Optional.empty()} if no message of the type
+     *         was validated
+     */
+    public Optional<TypeMetrics> of(String typeName) {
+        checkNotNull(typeName);
+        return Optional.ofNullable(metrics.get(typeName));
+    }
+
+    /**
+     * Removes all the collected metrics.
+     */
+    public void reset() {
+        metrics.clear();
+    }
+
+    private TypeMetrics metricsOf(Descriptor type) {
+        String name = type.getFullName();
+        TypeMetrics existing = metrics.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        TypeMetrics created = new TypeMetrics();
+        TypeMetrics previous = metrics.putIfAbsent(name, created);
+        return previous != null
+               ? previous
+               : created;
+    }
+
+    /**
+     * The validation metrics of a message type.
+     *
+     * <p>The latencies are collected into a histogram with the buckets of power-of-two
+     * nanoseconds, so a percentile is precise within a factor of two.
+     */
+    public static final class TypeMetrics {
+
+        private static final int BUCKET_COUNT = Long.SIZE;
+
+        private final LongAdder validations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] latencyBuckets = new LongAdder[BUCKET_COUNT];
+        private final ConcurrentMap<String, LongAdder> violations = new ConcurrentHashMap<>();
+
+        private TypeMetrics() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                latencyBuckets[i] = new LongAdder();
+            }
+        }
+
+        private void recordValidation(int depth, long durationNanos) {
+            validations.increment();
+            totalNanos.add(durationNanos);
+            maxDepth.accumulate(depth);
+            latencyBuckets[bucketOf(durationNanos)].increment();
+        }
+
+        private void recordViolation(String option) {
+            LongAdder counter = violations.get(option);
+            if (counter == null) {
+                LongAdder created = new LongAdder();
+                LongAdder previous = violations.putIfAbsent(option, created);
+                counter = previous != null
+                          ? previous
+                          : created;
+            }
+            counter.increment();
+        }
+
+        /**
+         * Obtains the index of the bucket, which is the number of significant bits
+         * of the duration.
+         */
+        private static int bucketOf(long durationNanos) {
+            long positive = Math.max(durationNanos, 0);
+            return Math.min(BUCKET_COUNT - 1, Long.SIZE - Long.numberOfLeadingZeros(positive));
+        }
+
+        /**
+         * Obtains the number of the validated messages of the type.
+         */
+        public long validations() {
+            return validations.sum();
+        }
+
+        /**
+         * Obtains the total time spent on the validation of the messages of the type.
+         */
+        public long totalNanos() {
+            return totalNanos.sum();
+        }
+
+        /**
+         * Obtains the maximal depth at which a message of the type was validated.
+         *
+         * <p>Is {@code 0} if the messages were validated only as top-level ones.
+         */
+        public long maxDepth() {
+            return maxDepth.get();
+        }
+
+        /**
+         * Obtains the upper estimate of the validation latency percentile.
+         *
+         * @param percentile the percentile in the range {@code (0, 1]}, e.g. {@code 0.99}
+         * @return the latency in nanoseconds, which is at most twice as large as the exact
+         *         one, or {@code 0} if no messages were validated
+         */
+        public long percentileNanos(double percentile) {
+            checkArgument(percentile > 0 && percentile <= 1,
+                          "The percentile must be in the range (0, 1]. Passed: %s.",
+                          percentile);
+            long[] counts = new long[BUCKET_COUNT];
+            long total = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] = latencyBuckets[i].sum();
+                total += counts[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(percentile * total);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return upperBoundOf(i);
+                }
+            }
+            return upperBoundOf(BUCKET_COUNT - 1);
+        }
+
+        private static long upperBoundOf(int bucket) {
+            return bucket >= BUCKET_COUNT - 1
+                   ? Long.MAX_VALUE
+                   : (1L << bucket) - 1;
+        }
+
+        /**
+         * Obtains the number of the violations of the given option.
+         */
+        public long violations(String option) {
+            LongAdder counter = violations.get(option);
+            return counter != null
+                   ? counter.sum()
+                   : 0;
+        }
+
+        /**
+         * Obtains the number of the violations per option.
+         */
+        public ImmutableMap<String, Long> violationsByOption() {
+            ImmutableMap.Builder<String, Long> result = ImmutableMap.builder();
+            violations.forEach((option, counter) -> result.put(option, counter.sum()));
+            return result.build();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Limits applied to a validation performed by a {@link MessageValidator}.
+ *
+ * <p>By default, a validation collects all the violated constraints of a message and
+ * of all the nested messages marked with the {@code (valid)} option. For large messages
+ * it may be preferable to stop the validation once enough violations are found or to
+ * skip the messages which are nested too deep.
+ *
+ * <p>If a limit cuts the validation short, the {@linkplain ValidationResult result} of
+ * the validation is marked as {@linkplain ValidationResult#isTruncated() truncated}.
+ *
+ * <p>The values of large repeated and map fields may be validated in parallel by setting
+ * the {@linkplain Builder#setParallelThreshold(int) parallel threshold}. The violations are
+ * reported in the same order as by the sequential validation.
+ */
+public final class ValidationOptions {
+
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private static final ValidationOptions DEFAULTS = newBuilder().build();
+    private static final ValidationOptions FAIL_FAST = newBuilder().setMaxViolations(1)
+                                                                   .build();
+
+    private final int maxViolations;
+    private final int maxDepth;
+    private final int parallelThreshold;
+    private final ForkJoinPool pool;
+
+    private ValidationOptions(Builder builder) {
+        this.maxViolations = builder.maxViolations;
+        this.maxDepth = builder.maxDepth;
+        this.parallelThreshold = builder.parallelThreshold;
+        this.pool = builder.pool != null
+                    ? builder.pool
+                    : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Obtains the options which collect all the violations at any nesting depth.
+     */
+    public static ValidationOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Obtains the options which stop the validation on the first found violation.
+     */
+    public static ValidationOptions failFast() {
+        return FAIL_FAST;
+    }
+
+    /**
+     * Creates a new instance of {@code Builder} for {@code ValidationOptions}.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Obtains the maximum number of violations to report.
+     */
+    public int maxViolations() {
+        return maxViolations;
+    }
+
+    /**
+     * Obtains the maximum depth of fields to validate.
+     *
+     * <p>Fields of the validated message have the depth of {@code 1}, fields of a message
+     * nested into it have the depth of {@code 2}, and so on.
+     */
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Obtains the minimal number of values of a repeated or map field to be validated
+     * in parallel.
+     */
+    public int parallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Obtains the pool validating the values of large fields in parallel.
+     */
+    public ForkJoinPool pool() {
+        return pool;
+    }
+
+    /**
+     * Tells if the values of the field with the given number of values should be validated
+     * in parallel.
+     *
+     * <p>The parallel validation is not used along with the
+     * {@linkplain #maxViolations() limit of violations}, as the limit requires the values
+     * to be validated one after another.
+     */
+    boolean isParallelFor(int valueCount) {
+        return valueCount >= parallelThreshold && !limitsViolations();
+    }
+
+    /**
+     * Tells if the number of reported violations is limited.
+     */
+    boolean limitsViolations() {
+        return maxViolations != UNLIMITED;
+    }
+
+    /**
+     * Tells if no limits are set and the validation is sequential.
+     */
+    boolean isUnlimited() {
+        return maxViolations == UNLIMITED
+                && maxDepth == UNLIMITED
+                && parallelThreshold == UNLIMITED;
+    }
+
+    /**
+     * A builder for {@code ValidationOptions}.
+     */
+    public static final class Builder {
+
+        private int maxViolations = UNLIMITED;
+        private int maxDepth = UNLIMITED;
+        private int parallelThreshold = UNLIMITED;
+        private @Nullable ForkJoinPool pool;
+
+        /** Prevents direct instantiation. */
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of violations to report.
+         *
+         * <p>The validation stops as soon as the given number of violations is found.
+         *
+         * @param maxViolations a positive number of violations
+         */
+        public Builder setMaxViolations(int maxViolations) {
+            checkArgument(maxViolations > 0,
+                          "The max number of violations must be positive. Passed: %s.",
+                          maxViolations);
+            this.maxViolations = maxViolations;
+            return this;
+        }
+
+        /**
+         * Sets the maximum depth of fields to validate.
+         *
+         * <p>Nested messages with fields deeper than the given depth are not validated.
+         *
+         * @param maxDepth a positive depth; {@code 1} stands for the fields of the validated
+         *                 message only
+         */
+        public Builder setMaxDepth(int maxDepth) {
+            checkArgument(maxDepth > 0,
+                          "The max depth must be positive. Passed: %s.",
+                          maxDepth);
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Enables the parallel validation of large repeated and map fields.
+         *
+         * <p>The values of a field are validated in parallel if there are at least
+         * the given number of them. Is ignored if the
+         * {@linkplain #setMaxViolations(int) max number of violations} is set.
+         *
+         * @param parallelThreshold a positive number of values
+         */
+        public Builder setParallelThreshold(int parallelThreshold) {
+            checkArgument(parallelThreshold > 0,
+                          "The parallel threshold must be positive. Passed: %s.",
+                          parallelThreshold);
+            this.parallelThreshold = parallelThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the pool for the parallel validation.
+         *
+         * <p>If not set, the {@linkplain ForkJoinPool#commonPool() common pool} is used.
+         */
+        public Builder setPool(ForkJoinPool pool) {
+            this.pool = checkNotNull(pool);
+            return this;
+        }
+
+        /**
+         * Creates new instance of {@code ValidationOptions}.
+         */
+        public ValidationOptions build() {
+            return new ValidationOptions(this);
+        }
+    }
+}
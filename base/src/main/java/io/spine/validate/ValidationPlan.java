@@ -0,0 +1,172 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.validate;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An immutable description of how messages of a type are validated.
+ *
+ * <p>The plan is built once per message type, when a message of the type is validated
+ * for the first time. It holds everything which can be computed from the
+ * {@linkplain Descriptor type descriptor} alone, such as the resolved validation options
+ * of the fields, so that {@link MessageValidator} only deals with field values.
+ *
+ * <p>The number of cached plans is bounded, so that the types built at runtime, such as
+ * the types of dynamic messages, are not held forever along with their files.
+ */
+final class ValidationPlan {
+
+    /**
+     * The maximum number of message types to keep the plans for.
+     */
+    private static final int MAX_PLANS = 4096;
+
+    /**
+     * The cached plans.
+     *
+     * <p>Is bounded rather than weak-keyed, as a plan references its type and would keep
+     * the key reachable.
+     */
+    private static final ConcurrentMap<Descriptor, ValidationPlan> plans =
+            CacheBuilder.newBuilder()
+                        .maximumSize(MAX_PLANS)
+                        .<Descriptor, ValidationPlan>build()
+                        .asMap();
+
+    private final Descriptor type;
+    private final ImmutableList<FieldPlan> fields;
+
+    /**
+     * The compiled {@code (required_field)} option or {@code null} if the type does not
+     * declare the option.
+     */
+    private final @Nullable RequiredFieldAlternatives alternatives;
+
+    /**
+     * Tells if any of the fields is {@linkplain FieldPlan#isTimeDependent() time-dependent}.
+     *
+     * <p>Is computed lazily, as it requires the plans of the nested types.
+     */
+    private volatile @Nullable Boolean timeDependent;
+
+    private ValidationPlan(Descriptor type) {
+        this.type = type;
+        ImmutableList.Builder<FieldPlan> fields = ImmutableList.builder();
+        for (FieldDescriptor field : type.getFields()) {
+            fields.add(new FieldPlan(field));
+        }
+        this.fields = fields.build();
+        this.alternatives = RequiredFieldAlternatives.compile(this);
+    }
+
+    /**
+     * Obtains the plan for the passed message type.
+     *
+     * <p>Creates the plan if the type is validated for the first time or if the plan
+     * was evicted from the cache.
+     */
+    static ValidationPlan of(Descriptor type) {
+        checkNotNull(type);
+        ValidationPlan existing = plans.get(type);
+        if (existing != null) {
+            return existing;
+        }
+        ValidationPlan created = new ValidationPlan(type);
+        ValidationPlan previous = plans.putIfAbsent(type, created);
+        return previous != null
+               ? previous
+               : created;
+    }
+
+    /**
+     * Obtains plans of all the fields of the message type in the order of declaration.
+     */
+    @SuppressWarnings("ReturnOfCollectionOrArrayField") // OK for an immutable list.
+    ImmutableList<FieldPlan> fields() {
+        return fields;
+    }
+
+    /**
+     * Obtains the plan of the passed field.
+     *
+     * @param field the field of the message type
+     * @return the plan of the field
+     */
+    FieldPlan field(FieldDescriptor field) {
+        int index = field.getIndex();
+        boolean declared = !field.isExtension()
+                && index < fields.size()
+                && fields.get(index)
+                         .descriptor() == field;
+        if (declared) {
+            return fields.get(index);
+        }
+        // The field is not declared in the type (e.g. an extension), so it cannot be cached.
+        return new FieldPlan(field);
+    }
+
+    Descriptor type() {
+        return type;
+    }
+
+    /**
+     * Tells if the message type requires one of alternative fields to be set.
+     *
+     * @see AlternativeFieldValidator
+     */
+    boolean hasAlternatives() {
+        return alternatives != null;
+    }
+
+    /**
+     * Tells if validating a message of the type requires the current time.
+     *
+     * @see FieldPlan#isTimeDependent()
+     */
+    boolean isTimeDependent() {
+        Boolean result = timeDependent;
+        if (result == null) {
+            result = fields.stream()
+                           .anyMatch(FieldPlan::isTimeDependent);
+            timeDependent = result;
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the compiled {@code (required_field)} option of the message type.
+     *
+     * @return the alternatives or {@code null} if the type does not declare the option
+     */
+    @Nullable RequiredFieldAlternatives alternatives() {
+        return alternatives;
+    }
+}
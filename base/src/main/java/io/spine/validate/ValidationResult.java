@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The outcome of a validation of a message performed with {@link ValidationOptions}.
+ */
+public final class ValidationResult {
+
+    private final ImmutableList<ConstraintViolation> violations;
+    private final boolean truncated;
+
+    ValidationResult(List<ConstraintViolation> violations, boolean truncated) {
+        this.violations = ImmutableList.copyOf(checkNotNull(violations));
+        this.truncated = truncated;
+    }
+
+    /**
+     * Obtains the constraint violations found.
+     */
+    @SuppressWarnings("ReturnOfCollectionOrArrayField") // is immutable list
+    public ImmutableList<ConstraintViolation> violations() {
+        return violations;
+    }
+
+    /**
+     * Tells if a limit of the {@link ValidationOptions} cut the validation short.
+     *
+     * <p>If {@code true}, there may be violations which are not reported.
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Tells if no violations were found.
+     *
+     * <p>If the result is {@linkplain #isTruncated() truncated}, a valid result only means that
+     * the validated part of the message has no violations.
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+}
@@ -20,30 +20,37 @@
 
 package io.spine.validate.rules;
 
-import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableTable;
 import com.google.protobuf.DescriptorProtos.FieldOptions;
 import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.Descriptors.FieldDescriptor;
 import com.google.protobuf.GeneratedMessage.GeneratedExtension;
 import io.spine.validate.FieldContext;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Collection;
-import java.util.Map;
 import java.util.Optional;
 
-import static com.google.common.collect.ImmutableMap.builder;
+import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * Utilities for obtaining Protobuf options extracted from validation rules.
  *
+ * <p>The options are indexed by the full name of the rule target field and the full name of
+ * its parent field, so that a lookup does not depend on the number of known rules.
+ *
  * @author Dmytro Grankin
  */
 public final class ValidationRuleOptions {
 
     /**
-     * A map from a field context to the options extracted from a validation rule.
+     * The options extracted from validation rules.
+     *
+     * <p>Rows are full names of the fields, which are the targets of the options.
+     * Columns are full names of the parent fields of the targets.
      */
-    private static final Map<FieldContext, FieldOptions> options = new Builder().build();
+    private static final ImmutableTable<String, String, FieldOptions> options =
+            new Builder().build();
 
     /** Prevent instantiation of this utility class. */
     private ValidationRuleOptions() {
@@ -60,28 +67,58 @@ public final class ValidationRuleOptions {
      */
     public static <T> Optional<T> getOptionValue(FieldContext fieldContext,
                                                  GeneratedExtension<FieldOptions, T> option) {
-        for (FieldContext context : options.keySet()) {
-            if (fieldContext.hasSameTargetAndParent(context)) {
-                FieldOptions fieldOptions = options.get(context);
-                T optionValue = fieldOptions.getExtension(option);
-                return Optional.of(optionValue);
-            }
+        Optional<T> result = getOptions(fieldContext).map(opts -> opts.getExtension(option));
+        return result;
+    }
+
+    /**
+     * Obtains the options extracted from a validation rule for the specified field context.
+     *
+     * @param fieldContext the context of the field to obtain the options
+     * @return the {@code Optional} of the field options or {@code Optional.empty()}
+     *         if there is no validation rule targeting the field in this context
+     */
+    public static Optional<FieldOptions> getOptions(FieldContext fieldContext) {
+        checkNotNull(fieldContext);
+        FieldDescriptor parent = fieldContext.getTargetParent();
+        if (parent == null) {
+            return Optional.empty();
         }
+        FieldOptions result = findOptions(fieldContext.getTarget(), parent);
+        return Optional.ofNullable(result);
+    }
 
-        return Optional.empty();
+    /**
+     * Finds the options extracted from a validation rule for the specified field.
+     *
+     * <p>Unlike {@link #getOptions(FieldContext)}, does not allocate any objects,
+     * and, therefore, is suitable for use on each validation.
+     *
+     * @param target the field to obtain the options
+     * @param parent the field, which declares the message type enclosing the {@code target}
+     * @return the field options or {@code null} if there is no validation rule
+     *         for the {@code target} in the {@code parent}
+     */
+    public static @Nullable FieldOptions findOptions(FieldDescriptor target,
+                                                     FieldDescriptor parent) {
+        checkNotNull(target);
+        checkNotNull(parent);
+        FieldOptions result = options.get(target.getFullName(), parent.getFullName());
+        return result;
     }
 
     /**
-     * {@code Builder} assembles a map from a field context
-     * to the options extracted from a validation rule.
+     * {@code Builder} assembles a table of the options extracted from a validation rule.
      *
-     * <p>Keys of the resulting map are field contexts for the fields of a validation rule targets.
+     * <p>Rows of the resulting table are full names of the fields of validation rule targets.
+     * Columns are full names of the validation rule targets.
      */
     private static class Builder {
 
-        private final ImmutableMap.Builder<FieldContext, FieldOptions> state = builder();
+        private final ImmutableTable.Builder<String, String, FieldOptions> state =
+                ImmutableTable.builder();
 
-        private ImmutableMap<FieldContext, FieldOptions> build() {
+        private ImmutableTable<String, String, FieldOptions> build() {
             for (ValidationRule rule : ValidationRules.getRules()) {
                 putAll(rule);
             }
@@ -100,9 +137,7 @@ public final class ValidationRuleOptions {
             Descriptor targetType = target.getMessageType();
             for (FieldDescriptor ruleField : rule.getFields()) {
                 FieldDescriptor subTarget = targetType.findFieldByName(ruleField.getName());
-                FieldContext targetContext = FieldContext.create(target);
-                FieldContext subTargetContext = targetContext.forChild(subTarget);
-                state.put(subTargetContext, ruleField.getOptions());
+                state.put(subTarget.getFullName(), target.getFullName(), ruleField.getOptions());
             }
         }
     }
@@ -22,12 +22,20 @@ package io.spine.code.proto;
 
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FileDescriptor;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.common.collect.ImmutableList.of;
+import static com.google.common.collect.Lists.newArrayList;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -78,4 +86,82 @@ public class LinkerShould {
         assertTrue(linker.getRemaining()
                          .isEmpty());
     }
+
+    @Test
+    public void resolve_files_in_dependency_order() throws DescriptorValidationException {
+        FileDescriptorProto root = file("root.proto");
+        FileDescriptorProto left = file("left.proto", "root.proto");
+        FileDescriptorProto right = file("right.proto", "root.proto");
+        FileDescriptorProto top = file("top.proto", "left.proto", "right.proto");
+        FileDescriptorProto orphan = file("orphan.proto", "missing.proto");
+        Linker linker = new Linker(of(top, orphan, right, left, root));
+
+        linker.resolve();
+
+        FileSet resolved = linker.getResolved();
+        assertEquals(4, resolved.size());
+        FileDescriptor topFile = resolved.tryFind(FileName.of("top.proto"))
+                                         .get();
+        FileDescriptor leftFile = resolved.tryFind(FileName.of("left.proto"))
+                                          .get();
+        assertSame(leftFile, topFile.getDependencies()
+                                    .get(0));
+        assertTrue(linker.getPartiallyResolved()
+                         .contains(FileName.of("orphan.proto")));
+        assertTrue(linker.getRemaining()
+                         .isEmpty());
+    }
+
+    @Test
+    public void build_small_levels_in_calling_thread() throws DescriptorValidationException {
+        AtomicInteger workers = new AtomicInteger();
+        ForkJoinPool pool = countingPool(workers);
+        Linker linker = new Linker(independentFiles(Linker.PARALLELISM_THRESHOLD - 1), pool);
+
+        linker.resolve();
+
+        assertEquals(Linker.PARALLELISM_THRESHOLD - 1, linker.getResolved()
+                                                             .size());
+        assertEquals(0, workers.get());
+        pool.shutdown();
+    }
+
+    @Test
+    public void build_large_levels_in_given_pool() throws DescriptorValidationException {
+        AtomicInteger workers = new AtomicInteger();
+        ForkJoinPool pool = countingPool(workers);
+        Linker linker = new Linker(independentFiles(Linker.PARALLELISM_THRESHOLD), pool);
+
+        linker.resolve();
+
+        assertEquals(Linker.PARALLELISM_THRESHOLD, linker.getResolved()
+                                                         .size());
+        assertTrue(workers.get() > 0);
+        pool.shutdown();
+    }
+
+    /**
+     * Creates a pool which counts the threads it starts.
+     */
+    private static ForkJoinPool countingPool(AtomicInteger workers) {
+        return new ForkJoinPool(2, pool -> {
+            workers.incrementAndGet();
+            return ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        }, null, false);
+    }
+
+    private static List<FileDescriptorProto> independentFiles(int count) {
+        List<FileDescriptorProto> result = newArrayList();
+        for (int i = 0; i < count; i++) {
+            result.add(file("independent_" + i + ".proto"));
+        }
+        return result;
+    }
+
+    private static FileDescriptorProto file(String name, String... dependencies) {
+        return FileDescriptorProto.newBuilder()
+                                  .setName(name)
+                                  .addAllDependency(asList(dependencies))
+                                  .build();
+    }
 }
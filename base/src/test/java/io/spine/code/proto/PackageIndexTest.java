@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.collect.ImmutableMap;
+import io.spine.type.TypeName;
+import io.spine.type.TypeUrl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("PackageIndex should")
+class PackageIndexTest {
+
+    private static final TypeName TASK = TypeName.of("spine.test.Task");
+    private static final TypeName TASK_ID = TypeName.of("spine.test.Task.Id");
+    private static final TypeName NESTED = TypeName.of("spine.test.inner.Item");
+    private static final TypeName SIBLING = TypeName.of("spine.testing.Probe");
+    private static final TypeName OTHER = TypeName.of("acme.Order");
+
+    private final PackageIndex index =
+            PackageIndex.of(urlsOf(SIBLING, TASK_ID, OTHER, NESTED, TASK));
+
+    @Test
+    @DisplayName("find types of a package and its subpackages")
+    void findPackageTypes() {
+        assertThat(index.inPackage("spine.test")
+                        .keySet()).containsExactly(TASK, TASK_ID, NESTED);
+        assertThat(index.inPackage("spine.test.inner")
+                        .keySet()).containsExactly(NESTED);
+    }
+
+    @Test
+    @DisplayName("obtain the URLs of the types")
+    void obtainUrls() {
+        assertThat(index.inPackage("spine.test.inner")).containsExactly(NESTED, urlOf(NESTED));
+    }
+
+    @Test
+    @DisplayName("not find types of a package by its prefix")
+    void notMatchPackagePrefix() {
+        assertTrue(index.inPackage("spine.tes")
+                        .isEmpty());
+    }
+
+    @Test
+    @DisplayName("find types by name prefix")
+    void findByPrefix() {
+        assertThat(index.withPrefix("spine.test")
+                        .keySet()).containsExactly(TASK, TASK_ID, NESTED, SIBLING);
+        assertThat(index.withPrefix("spine.test.T")
+                        .keySet()).containsExactly(TASK, TASK_ID);
+        assertEquals(index.all(), index.withPrefix(""));
+    }
+
+    @Test
+    @DisplayName("add names")
+    void addNames() {
+        TypeName added = TypeName.of("spine.test.Added");
+
+        PackageIndex extended = index.with(urlsOf(added, TASK));
+
+        assertEquals(index.size() + 1, extended.size());
+        assertThat(extended.inPackage("spine.test")
+                           .keySet()).contains(added);
+        assertThat(index.inPackage("spine.test")
+                        .keySet()).doesNotContain(added);
+    }
+
+    private static ImmutableMap<TypeName, TypeUrl> urlsOf(TypeName... names) {
+        ImmutableMap.Builder<TypeName, TypeUrl> result = ImmutableMap.builder();
+        for (TypeName name : names) {
+            result.put(name, urlOf(name));
+        }
+        return result.build();
+    }
+
+    private static TypeUrl urlOf(TypeName name) {
+        return TypeUrl.parse("type.spine.io/" + name.value());
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.option.IfMissingOption;
+import io.spine.test.types.KnownTask;
+import io.spine.type.TypeName;
+import io.spine.type.TypeUrl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TypeIndex should")
+class TypeIndexTest {
+
+    private static final TypeName TASK = TypeName.from(KnownTask.getDescriptor());
+    private static final TypeName OPTION = TypeName.from(IfMissingOption.getDescriptor());
+
+    @Test
+    @DisplayName("contain types of the given files")
+    void containTypes() {
+        TypeIndex index = TypeIndex.of(filesOf(KnownTask.getDescriptor()));
+
+        assertTrue(index.contains(TASK));
+        assertTrue(index.contains(OPTION));
+        assertFalse(index.contains(TypeName.of("spine.test.types.UnknownTask")));
+    }
+
+    @Test
+    @DisplayName("find types by name")
+    void findTypes() {
+        TypeIndex index = TypeIndex.of(filesOf(KnownTask.getDescriptor()));
+
+        Optional<Type<?, ?>> found = index.find(TASK);
+
+        assertTrue(found.isPresent());
+        assertEquals(TASK, found.get()
+                                .name());
+        assertFalse(index.find(TypeName.of("spine.test.types.UnknownTask"))
+                         .isPresent());
+    }
+
+    @Test
+    @DisplayName("link a common dependency once")
+    void linkDependencyOnce() {
+        TypeIndex index = TypeIndex.of(filesOf(KnownTask.getDescriptor()));
+
+        Descriptor task = (Descriptor) index.find(TASK)
+                                            .get()
+                                            .descriptor();
+        Descriptor option = (Descriptor) index.find(OPTION)
+                                              .get()
+                                              .descriptor();
+
+        assertTrue(task.getFile()
+                       .getDependencies()
+                       .contains(option.getFile()));
+        assertSame(index.find(OPTION)
+                        .get(), index.find(OPTION)
+                                     .get());
+    }
+
+    @Test
+    @DisplayName("link a file without a missing dependency")
+    void linkPartially() {
+        FileDescriptorProto file = KnownTask.getDescriptor()
+                                            .getFile()
+                                            .toProto();
+        TypeIndex index = TypeIndex.of(ImmutableList.of(file));
+
+        assertTrue(index.find(TASK)
+                        .isPresent());
+        assertFalse(index.contains(OPTION));
+    }
+
+    @Test
+    @DisplayName("serve other types if a file cannot be linked")
+    void skipUnresolved() {
+        DescriptorProto broken = DescriptorProto.newBuilder()
+                                                .setName("Broken")
+                                                .build();
+        FileDescriptorProto brokenFile = FileDescriptorProto
+                .newBuilder()
+                .setName("spine/test/types/broken.proto")
+                .setPackage("spine.test.types")
+                .setOptions(KnownTask.getDescriptor()
+                                     .getFile()
+                                     .getOptions())
+                .addMessageType(broken)
+                .addMessageType(broken)
+                .build();
+        List<FileDescriptorProto> files = ImmutableList.<FileDescriptorProto>builder()
+                .add(brokenFile)
+                .addAll(filesOf(KnownTask.getDescriptor()))
+                .build();
+        TypeIndex index = TypeIndex.of(files);
+        TypeName brokenType = TypeName.of("spine.test.types.Broken");
+
+        assertTrue(index.contains(brokenType));
+        assertFalse(index.find(brokenType)
+                         .isPresent());
+        assertTrue(index.find(TASK)
+                        .isPresent());
+        assertFalse(index.allTypes()
+                         .contains(brokenType));
+    }
+
+    @Test
+    @DisplayName("obtain type URLs without linking files")
+    void typeUrls() {
+        TypeIndex index = TypeIndex.of(filesOf(KnownTask.getDescriptor()));
+
+        assertEquals(TypeUrl.from(KnownTask.getDescriptor()),
+                     index.packages()
+                          .all()
+                          .get(TASK));
+    }
+
+    @Test
+    @DisplayName("obtain all the types")
+    void allTypes() {
+        List<FileDescriptorProto> files = filesOf(KnownTask.getDescriptor());
+        TypeIndex index = TypeIndex.of(files);
+
+        TypeSet allTypes = index.allTypes();
+
+        assertEquals(index.size(), allTypes.size());
+        assertTrue(allTypes.contains(TASK));
+    }
+
+    @Test
+    @DisplayName("identify types by full name")
+    void typeIdentity() {
+        List<FileDescriptorProto> files = filesOf(KnownTask.getDescriptor());
+        Type<?, ?> type = TypeIndex.of(files)
+                                   .find(TASK)
+                                   .get();
+        Type<?, ?> sameType = TypeIndex.of(files)
+                                       .find(TASK)
+                                       .get();
+
+        assertNotSame(type.descriptor(), sameType.descriptor());
+        assertEquals(type, sameType);
+        assertEquals(type.hashCode(), sameType.hashCode());
+        assertEquals(KnownTask.getDescriptor()
+                              .toProto(), type.toProto());
+    }
+
+    /**
+     * Obtains the file declaring the given type along with all its dependencies.
+     */
+    private static List<FileDescriptorProto> filesOf(Descriptor type) {
+        ImmutableList.Builder<FileDescriptorProto> result = ImmutableList.builder();
+        addWithDependencies(type.getFile(), result);
+        return result.build();
+    }
+
+    private static void addWithDependencies(FileDescriptor file,
+                                            ImmutableList.Builder<FileDescriptorProto> result) {
+        result.add(file.toProto());
+        for (FileDescriptor dependency : file.getDependencies()) {
+            addWithDependencies(dependency, result);
+        }
+    }
+}
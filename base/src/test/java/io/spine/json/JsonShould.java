@@ -33,21 +33,31 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.List;
 
 import static io.spine.base.Identifier.newUuid;
 import static io.spine.json.Json.fromJson;
+import static io.spine.json.Json.fromJsonReusingBuilder;
 import static io.spine.json.Json.toCompactJson;
 import static io.spine.json.Json.toJson;
 import static io.spine.protobuf.TypeConverter.toMessage;
 import static io.spine.testing.Tests.assertHasPrivateParameterlessCtor;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
 
 public class JsonShould {
 
+    private static final String READER_FAILURE = "The reader fails after the beginning.";
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
@@ -96,6 +106,29 @@ public class JsonShould {
         assertFalse(result.contains(System.lineSeparator()));
     }
 
+    @Test
+    public void write_json_to_appendable() {
+        Node node = Node.newBuilder()
+                        .setName(newUuid())
+                        .setRight(Node.getDefaultInstance())
+                        .build();
+        StringBuilder output = new StringBuilder();
+
+        Json.writeTo(node, output);
+
+        assertEquals(toJson(node), output.toString());
+    }
+
+    @Test
+    public void write_json_to_stream_in_UTF_8() {
+        StringValue value = toMessage("\u0436\u0443\u0440\u043d\u0430\u043b");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        Json.writeTo(value, output);
+
+        assertEquals(toJson(value), new String(output.toByteArray(), UTF_8));
+    }
+
     @Test
     public void parse_from_json() {
         String idValue = newUuid();
@@ -104,4 +137,90 @@ public class JsonShould {
         assertNotNull(parsedValue);
         assertEquals(idValue, parsedValue.getValue());
     }
+
+    @Test
+    public void parse_from_json_reader() {
+        String idValue = newUuid();
+        Reader json = new StringReader(format("{value:%s}", idValue));
+
+        WrappedString parsedValue = fromJson(json, WrappedString.class);
+
+        assertEquals(idValue, parsedValue.getValue());
+    }
+
+    @Test
+    public void parse_from_json_stream_in_UTF_8() {
+        String idValue = "\u0436\u0443\u0440\u043d\u0430\u043b";
+        byte[] json = format("{\"value\":\"%s\"}", idValue).getBytes(UTF_8);
+
+        WrappedString parsedValue = fromJson(new ByteArrayInputStream(json), WrappedString.class);
+
+        assertEquals(idValue, parsedValue.getValue());
+    }
+
+    @Test
+    public void parse_from_json_reusing_builder() {
+        String firstId = newUuid();
+        String secondId = newUuid();
+
+        WrappedString first = fromJsonReusingBuilder(format("{value:%s}", firstId),
+                                                     WrappedString.class);
+        WrappedString second = fromJsonReusingBuilder(new StringReader("{}"),
+                                                      WrappedString.class);
+        WrappedString third = fromJsonReusingBuilder(format("{value:%s}", secondId),
+                                                     WrappedString.class);
+
+        assertEquals(firstId, first.getValue());
+        assertEquals(WrappedString.getDefaultInstance(), second);
+        assertEquals(secondId, third.getValue());
+    }
+
+    @Test
+    public void fail_to_parse_malformed_json_reader() {
+        thrown.expect(IllegalArgumentException.class);
+        fromJson(new StringReader("{value:"), WrappedString.class);
+    }
+
+    @Test
+    public void fail_to_parse_from_failing_reader() {
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage(READER_FAILURE);
+        fromJson(new FailingReader(), WrappedString.class);
+    }
+
+    @Test
+    public void clear_reused_builder_if_reader_fails() {
+        try {
+            fromJsonReusingBuilder(new FailingReader(), WrappedString.class);
+            fail("The failing reader must not be parsed.");
+        } catch (IllegalStateException ignored) {
+            // Expected.
+        }
+
+        WrappedString parsed = fromJsonReusingBuilder("{}", WrappedString.class);
+
+        assertEquals(WrappedString.getDefaultInstance(), parsed);
+    }
+
+    /**
+     * A reader which provides the beginning of a message and then fails.
+     */
+    private static final class FailingReader extends Reader {
+
+        private final Reader beginning = new StringReader(format("{value:\"%s", newUuid()));
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int result = beginning.read(buffer, offset, length);
+            if (result < 0) {
+                throw new IOException(READER_FAILURE);
+            }
+            return result;
+        }
+
+        @Override
+        public void close() {
+            // Nothing to close.
+        }
+    }
 }
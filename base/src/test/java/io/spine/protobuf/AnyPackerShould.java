@@ -22,11 +22,13 @@ package io.spine.protobuf;
 
 import com.google.common.collect.Lists;
 import com.google.protobuf.Any;
+import com.google.protobuf.DynamicMessage;
 import com.google.protobuf.Message;
 import com.google.protobuf.StringValue;
 import io.spine.testing.Tests;
 import io.spine.test.protobuf.MessageToPack;
 import io.spine.type.TypeUrl;
+import io.spine.type.UnexpectedTypeException;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -136,4 +138,29 @@ public class AnyPackerShould {
 
         assertEquals(value, unpackFunc().apply(Any.pack(value)));
     }
+
+    @Test
+    public void pack_dynamic_message_to_Any() {
+        DynamicMessage message = DynamicMessage.newBuilder(spineMsg)
+                                               .build();
+
+        Any actual = pack(message);
+
+        assertEquals(pack(spineMsg), actual);
+    }
+
+    @Test
+    public void unpack_message_packed_with_other_prefix() {
+        Any any = Any.pack(spineMsg, "custom.prefix");
+
+        assertEquals(spineMsg, unpack(any, MessageToPack.class));
+    }
+
+    @Test
+    public void fail_to_unpack_message_of_other_type() {
+        Any any = pack(spineMsg);
+
+        thrown.expect(UnexpectedTypeException.class);
+        unpack(any, StringValue.class);
+    }
 }
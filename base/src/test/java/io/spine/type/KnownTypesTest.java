@@ -46,6 +46,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -143,6 +144,29 @@ class KnownTypesTest {
         assertTrue(packageTypes.isEmpty());
     }
 
+    @Test
+    @DisplayName("obtain types by name prefix")
+    void typesByPrefix() {
+        TypeUrl taskId = TypeUrl.from(KnownTaskId.getDescriptor());
+        TypeUrl taskName = TypeUrl.from(KnownTaskName.getDescriptor());
+
+        Set<TypeUrl> types = knownTypes.getAllWithPrefix("spine.test.types.KnownTaskN");
+
+        assertThat(types).containsExactly(taskName);
+        assertThat(knownTypes.getAllWithPrefix("spine.test.ty")).containsAllOf(taskId, taskName);
+    }
+
+    @Test
+    @DisplayName("reuse the type URLs of a package or a prefix")
+    void cacheUrls() {
+        String packageName = "spine.test.types";
+
+        assertSame(knownTypes.getAllFromPackage(packageName),
+                   knownTypes.getAllFromPackage(packageName));
+        assertSame(knownTypes.getAllWithPrefix(packageName),
+                   knownTypes.getAllWithPrefix(packageName));
+    }
+
     @Test
     @DisplayName("throw UnknownTypeException for requesting info on an unknown type")
     void throwOnUnknownType() {
@@ -152,4 +176,23 @@ class KnownTypesTest {
                 () -> knownTypes.getClassName(unexpectedUrl)
         );
     }
+
+    @Test
+    @DisplayName("find type by message class")
+    void typeByClass() {
+        Type<?, ?> type = knownTypes.typeOf(KnownTask.class);
+
+        assertEquals(TypeUrl.of(KnownTask.class), type.url());
+        assertSame(type, knownTypes.typeOf(KnownTask.class));
+    }
+
+    @Test
+    @DisplayName("resolve Java class of a type once")
+    void cacheJavaClass() {
+        Type<?, ?> type = knownTypes.typeOf(KnownTaskId.class);
+
+        assertSame(KnownTaskId.class, type.javaClass());
+        assertSame(type.javaClass(), TypeUrl.of(KnownTaskId.class)
+                                            .getJavaClass());
+    }
 }
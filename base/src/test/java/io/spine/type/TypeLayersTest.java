@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.type;
+
+import com.google.protobuf.Timestamp;
+import io.spine.code.proto.TypeSet;
+import io.spine.test.types.KnownTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TypeLayers should")
+class TypeLayersTest {
+
+    private static final TypeSet taskTypes =
+            TypeSet.messagesAndEnums(KnownTask.getDescriptor()
+                                              .getFile());
+    private static final TypeSet timeTypes =
+            TypeSet.messagesAndEnums(Timestamp.getDescriptor()
+                                              .getFile());
+
+    private static final TypeName TASK = TypeName.from(KnownTask.getDescriptor());
+    private static final TypeName TIMESTAMP = TypeName.from(Timestamp.getDescriptor());
+
+    @Test
+    @DisplayName("find the added types")
+    void findTypes() {
+        TypeLayers layers = TypeLayers.empty()
+                                      .with(taskTypes)
+                                      .with(timeTypes);
+
+        assertTrue(layers.contains(TASK));
+        assertTrue(layers.contains(TIMESTAMP));
+        assertFalse(TypeLayers.empty()
+                              .contains(TASK));
+    }
+
+    @Test
+    @DisplayName("not change the previous instance")
+    void keepSnapshot() {
+        TypeLayers withTasks = TypeLayers.empty()
+                                         .with(taskTypes);
+
+        TypeLayers withTime = withTasks.with(timeTypes);
+
+        assertNotSame(withTasks, withTime);
+        assertFalse(withTasks.contains(TIMESTAMP));
+    }
+
+    @Test
+    @DisplayName("ignore an empty batch")
+    void ignoreEmpty() {
+        TypeLayers layers = TypeLayers.empty()
+                                      .with(taskTypes);
+
+        assertSame(layers, layers.with(TypeSet.newBuilder()
+                                              .build()));
+    }
+
+    @Test
+    @DisplayName("collect all the types")
+    void collectTypes() {
+        TypeLayers layers = TypeLayers.empty()
+                                      .with(taskTypes)
+                                      .with(timeTypes)
+                                      .with(taskTypes);
+
+        assertEquals(taskTypes.union(timeTypes), layers.toSet());
+    }
+
+    @Test
+    @DisplayName("find the types of a package")
+    void findPackage() {
+        TypeLayers layers = TypeLayers.empty()
+                                      .with(timeTypes)
+                                      .with(taskTypes);
+
+        assertThat(layers.inPackage("spine.test.types")
+                         .keySet()).contains(TASK);
+        assertThat(layers.withPrefix("google.protobuf.Time"))
+                .containsExactly(TIMESTAMP, TypeUrl.from(Timestamp.getDescriptor()));
+    }
+}
@@ -23,6 +23,7 @@ package io.spine.type;
 import com.google.common.testing.EqualsTester;
 import com.google.protobuf.Any;
 import com.google.protobuf.BoolValue;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.Descriptors.EnumDescriptor;
 import com.google.protobuf.Field;
@@ -42,6 +43,7 @@ import static io.spine.base.Identifier.newUuid;
 import static io.spine.protobuf.TypeConverter.toMessage;
 import static io.spine.type.TypeUrl.composeTypeUrl;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -106,6 +108,18 @@ class TypeUrlTest {
             assertEquals(expectedUrl, typeUrl.value());
         }
 
+        @Test
+        @DisplayName("an unlinked file declaring the type")
+        void fileProto() {
+            Descriptors.Descriptor descriptor = EntityOption.getDescriptor();
+            FileDescriptorProto file = descriptor.getFile()
+                                                 .toProto();
+
+            TypeUrl typeUrl = TypeUrl.from(file, TypeName.from(descriptor));
+
+            assertEquals(TypeUrl.from(descriptor), typeUrl);
+        }
+
         @Test
         @DisplayName("enum descriptor of Protobuf type")
         void standardEnumDescriptor() {
@@ -220,6 +234,30 @@ class TypeUrlTest {
         assertEquals(TypeName.of(STRING_VALUE_TYPE_NAME), stringValueTypeUrl.toName());
     }
 
+    @Test
+    @DisplayName("return the same instance for the same parsed URL")
+    void internParsed() {
+        TypeUrl parsed = TypeUrl.parse(STRING_VALUE_TYPE_URL_STR);
+        Any any = Any.pack(StringValue.getDefaultInstance());
+
+        assertSame(parsed, TypeUrl.parse(STRING_VALUE_TYPE_URL_STR));
+        assertSame(parsed, TypeUrl.ofEnclosed(any));
+        assertSame(parsed.toName(), parsed.toName());
+        assertSame(parsed.value(), parsed.value());
+    }
+
+    @Test
+    @DisplayName("keep used URLs interned when flooded with arbitrary URLs")
+    void internBounded() {
+        TypeUrl parsed = TypeUrl.parse(STRING_VALUE_TYPE_URL_STR);
+        for (int i = 0; i < 10_000; i++) {
+            String arbitrary = "example.org/arbitrary.Type" + i;
+            assertEquals(arbitrary, TypeUrl.parse(arbitrary)
+                                           .value());
+            assertSame(parsed, TypeUrl.parse(STRING_VALUE_TYPE_URL_STR));
+        }
+    }
+
     private static void assertCreatesTypeUrlFromEnum(String typeUrlPrefix,
                                                      EnumDescriptor enumDescriptor) {
         String expected = composeTypeUrl(typeUrlPrefix, enumDescriptor.getFullName());
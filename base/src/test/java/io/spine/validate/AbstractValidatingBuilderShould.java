@@ -21,15 +21,21 @@
 package io.spine.validate;
 
 import com.google.protobuf.UInt32Value;
+import io.spine.test.validate.PatternStringFieldValue;
 import org.junit.Test;
 
 import java.util.List;
 import java.util.Map;
 
 import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 public class AbstractValidatingBuilderShould {
 
+    private static final String VALID_EMAIL = "user@example.com";
+    private static final String INVALID_EMAIL = "not an email";
+
     @Test
     public void convert_to_map() {
         String key1 = "key1";
@@ -61,4 +67,64 @@ public class AbstractValidatingBuilderShould {
         assertTrue(convertedValue.contains(key1));
         assertTrue(convertedValue.contains(value));
     }
+
+    @Test
+    public void validate_fields_changed_after_build() {
+        PatternStringVBuilder builder = new PatternStringVBuilder();
+        builder.getMessageBuilder()
+               .setEmail(VALID_EMAIL);
+        builder.build();
+
+        builder.getMessageBuilder()
+               .setEmail(INVALID_EMAIL);
+        assertViolationsAsFullValidation(builder);
+    }
+
+    @Test
+    public void validate_fields_changed_after_setting_known_valid_state() {
+        PatternStringVBuilder first = new PatternStringVBuilder();
+        first.getMessageBuilder()
+             .setEmail(VALID_EMAIL);
+        PatternStringFieldValue valid = first.build();
+
+        PatternStringVBuilder second = new PatternStringVBuilder();
+        second.setOriginalState(valid);
+        second.getMessageBuilder()
+              .setEmail(INVALID_EMAIL);
+        assertViolationsAsFullValidation(second);
+
+        second.getMessageBuilder()
+              .setEmail(VALID_EMAIL);
+        assertEquals(valid, second.build());
+    }
+
+    @Test
+    public void validate_unknown_original_state() {
+        PatternStringFieldValue invalid = PatternStringFieldValue.newBuilder()
+                                                                 .setEmail(INVALID_EMAIL)
+                                                                 .build();
+        PatternStringVBuilder builder = new PatternStringVBuilder();
+        builder.setOriginalState(invalid);
+        assertViolationsAsFullValidation(builder);
+    }
+
+    private static void assertViolationsAsFullValidation(PatternStringVBuilder builder) {
+        List<ConstraintViolation> expected = MessageValidator.newInstance()
+                                                             .validate(builder.internalBuild());
+        try {
+            builder.build();
+            fail("ValidationException expected.");
+        } catch (ValidationException e) {
+            assertEquals(expected, e.getConstraintViolations());
+        }
+    }
+
+    /**
+     * A validating builder, which modifies the message builder directly, like
+     * the builders of the Protobuf wrapper types do.
+     */
+    private static class PatternStringVBuilder
+            extends AbstractValidatingBuilder<PatternStringFieldValue,
+                                              PatternStringFieldValue.Builder> {
+    }
 }
@@ -20,9 +20,15 @@
 
 package io.spine.validate;
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Message;
+import io.spine.test.validate.altfields.DataOrName;
 import io.spine.test.validate.altfields.MessageWithMissingField;
+import io.spine.test.validate.altfields.NumberOrName;
 import io.spine.test.validate.altfields.PersonName;
+import io.spine.test.validate.altfields.Priority;
+import io.spine.test.validate.altfields.PriorityOrName;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -89,4 +95,40 @@ public class AlternativeFieldValidatorShould {
         List<? extends ConstraintViolation> violations = testee.validate(msg);
         assertFalse(violations.isEmpty());
     }
+
+    @Test
+    public void consider_unset_number_alternative_found() {
+        assertFound(NumberOrName.getDefaultInstance());
+        assertFound(NumberOrName.newBuilder()
+                                .setNumber(42L)
+                                .build());
+    }
+
+    @Test
+    public void consider_unset_enum_alternative_found() {
+        assertFound(PriorityOrName.getDefaultInstance());
+        assertFound(PriorityOrName.newBuilder()
+                                  .setPriority(Priority.HIGH)
+                                  .build());
+    }
+
+    @Test
+    public void consider_unset_bytes_alternative_found() {
+        assertFound(DataOrName.getDefaultInstance());
+        assertFound(DataOrName.newBuilder()
+                              .setData(ByteString.copyFromUtf8("data"))
+                              .build());
+    }
+
+    /**
+     * Asserts that both the validation and the check find an alternative in the message.
+     */
+    private static void assertFound(Message message) {
+        AlternativeFieldValidator testee =
+                new AlternativeFieldValidator(message.getDescriptorForType(), EMPTY_CONTEXT);
+        assertTrue(testee.validate(message)
+                         .isEmpty());
+        assertTrue(MessageValidator.newInstance()
+                                   .check(message));
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Message;
+import io.spine.test.validate.PatternStringFieldValue;
+import io.spine.test.validate.RequiredStringFieldValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("MessageValidator batch validation should")
+class BatchValidationTest {
+
+    private final MessageValidator validator = MessageValidator.newInstance();
+
+    @Test
+    @DisplayName("report violations for each message by its index")
+    void perIndex() {
+        ImmutableList<Message> messages = mixedBatch(10);
+        ImmutableList<List<ConstraintViolation>> results = validator.validateAll(messages);
+        assertSameAsOneByOne(messages, results);
+    }
+
+    @Test
+    @DisplayName("validate with an executor")
+    void withExecutor() {
+        ImmutableList<Message> messages = mixedBatch(100);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ImmutableList<List<ConstraintViolation>> results =
+                    validator.validateAll(messages, executor);
+            assertSameAsOneByOne(messages, results);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("validate a stream of messages")
+    void stream() {
+        ImmutableList<Message> messages = mixedBatch(100);
+        List<List<ConstraintViolation>> results = validator.validateAll(messages.parallelStream())
+                                                           .collect(toList());
+        assertSameAsOneByOne(messages, results);
+    }
+
+    @Test
+    @DisplayName("return no results for an empty batch")
+    void empty() {
+        assertEquals(0, validator.validateAll(ImmutableList.of())
+                                 .size());
+    }
+
+    private void assertSameAsOneByOne(List<Message> messages,
+                                      List<List<ConstraintViolation>> results) {
+        assertEquals(messages.size(), results.size());
+        for (int i = 0; i < messages.size(); i++) {
+            assertEquals(validator.validate(messages.get(i)), results.get(i));
+        }
+    }
+
+    /**
+     * Creates valid and invalid messages of two types.
+     */
+    private static ImmutableList<Message> mixedBatch(int size) {
+        ImmutableList.Builder<Message> result = ImmutableList.builder();
+        for (int i = 0; i < size; i++) {
+            switch (i % 4) {
+                case 0:
+                    result.add(RequiredStringFieldValue.getDefaultInstance());
+                    break;
+                case 1:
+                    result.add(RequiredStringFieldValue.newBuilder()
+                                                       .setValue("value" + i)
+                                                       .build());
+                    break;
+                case 2:
+                    result.add(PatternStringFieldValue.newBuilder()
+                                                      .setEmail("invalid" + i)
+                                                      .build());
+                    break;
+                default:
+                    result.add(PatternStringFieldValue.newBuilder()
+                                                      .setEmail("user" + i + "@example.com")
+                                                      .build());
+            }
+        }
+        return result.build();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.validate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static io.spine.testing.Tests.assertHasPrivateParameterlessCtor;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CompiledPatterns should")
+class CompiledPatternsTest {
+
+    private static final String REGEX = "[a-z]+";
+
+    @Test
+    @DisplayName("have the private utility constructor")
+    void utilityCtor() {
+        assertHasPrivateParameterlessCtor(CompiledPatterns.class);
+    }
+
+    @Test
+    @DisplayName("reuse compiled patterns")
+    void cache() {
+        Pattern pattern = CompiledPatterns.compile(REGEX, 0);
+        assertSame(pattern, CompiledPatterns.compile(REGEX, 0));
+    }
+
+    @Test
+    @DisplayName("honor the flags of the expression")
+    void flags() {
+        Pattern plain = CompiledPatterns.compile(REGEX, 0);
+        Pattern caseInsensitive = CompiledPatterns.compile(REGEX, Pattern.CASE_INSENSITIVE);
+        assertNotNull(plain);
+        assertNotNull(caseInsensitive);
+
+        assertFalse(plain.matcher("ABC")
+                         .matches());
+        assertTrue(caseInsensitive.matcher("ABC")
+                                  .matches());
+    }
+
+    @Test
+    @DisplayName("not compile an invalid expression")
+    void invalidRegex() {
+        assertThrows(PatternSyntaxException.class, () -> CompiledPatterns.compile("[a-z", 0));
+    }
+}
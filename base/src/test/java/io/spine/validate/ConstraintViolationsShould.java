@@ -19,10 +19,16 @@
  */
 package io.spine.validate;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.testing.NullPointerTester;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.util.List;
+
 import static io.spine.testing.Tests.assertHasPrivateParameterlessCtor;
+import static java.lang.String.format;
+import static org.junit.Assert.assertEquals;
 
 public class ConstraintViolationsShould {
 
@@ -37,4 +43,57 @@ public class ConstraintViolationsShould {
                 .setDefault(ConstraintViolation.class, ConstraintViolation.getDefaultInstance())
                 .testAllPublicStaticMethods(ConstraintViolations.class);
     }
+
+    @Test
+    public void format_the_same_text_as_String_format() {
+        List<String> params = ImmutableList.of("a", "b");
+        String[] formats = {"plain", "%s and %s", "100%% of %s%n", "%1$s %2$s", "%-5s|%s"};
+        for (String msgFormat : formats) {
+            ConstraintViolation violation = violation(msgFormat, params);
+            assertEquals(format(msgFormat, params.toArray()),
+                         ConstraintViolations.toText(violation));
+        }
+    }
+
+    @Test
+    public void format_nested_violations() {
+        ConstraintViolation nested = violation("outer %s", "x")
+                .toBuilder()
+                .addViolation(violation("inner %s", "y"))
+                .build();
+        String separator = System.lineSeparator();
+        String expected = "Violation list:" + separator
+                + "outer x" + "Violation list:" + separator
+                + "inner y";
+        assertEquals(expected, ConstraintViolations.toText(ImmutableList.of(nested)));
+    }
+
+    @Test
+    public void stream_the_same_text() throws IOException {
+        List<ConstraintViolation> violations = ImmutableList.of(violation("first %s", "1"),
+                                                                violation("second %s", "2"));
+        StringBuilder out = new StringBuilder();
+        ConstraintViolations.writeText(violations, out);
+        assertEquals(ConstraintViolations.toText(violations), out.toString());
+    }
+
+    @Test
+    public void cap_the_text_length() {
+        List<ConstraintViolation> violations = ImmutableList.of(violation("first %s", "1"),
+                                                                violation("second %s", "2"));
+        String full = ConstraintViolations.toText(violations);
+        assertEquals(full.substring(0, 20), ConstraintViolations.toText(violations, 20));
+        assertEquals(full, ConstraintViolations.toText(violations, full.length() + 1));
+    }
+
+    private static ConstraintViolation violation(String msgFormat, String param) {
+        return violation(msgFormat, ImmutableList.of(param));
+    }
+
+    private static ConstraintViolation violation(String msgFormat, List<String> params) {
+        return ConstraintViolation.newBuilder()
+                                  .setMsgFormat(msgFormat)
+                                  .addAllParam(params)
+                                  .build();
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.validate;
+
+import com.google.protobuf.DescriptorProtos.FieldOptions;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import io.spine.option.OptionsProto;
+import io.spine.option.PatternOption;
+import io.spine.test.validate.PatternStringFieldValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("FieldConstraints should")
+class FieldConstraintsTest {
+
+    private static final FieldDescriptor FIELD = PatternStringFieldValue.getDescriptor()
+                                                                        .getFields()
+                                                                        .get(0);
+
+    @Test
+    @DisplayName("compile the pattern of the field")
+    void compilePattern() {
+        FieldConstraints constraints = FieldConstraints.of(FIELD, FIELD.getOptions());
+        Pattern pattern = constraints.compiledPattern();
+        assertNotNull(pattern);
+        assertTrue(pattern.matcher("user@example.com")
+                          .matches());
+    }
+
+    @Test
+    @DisplayName("have no compiled pattern if the option is not set")
+    void noPattern() {
+        FieldConstraints constraints = FieldConstraints.of(FIELD,
+                                                           FieldOptions.getDefaultInstance());
+        assertNull(constraints.compiledPattern());
+    }
+
+    @Test
+    @DisplayName("report a pattern which cannot be compiled on each request")
+    void invalidPattern() {
+        FieldConstraints constraints = constraintsWith(PatternOption.newBuilder()
+                                                                    .setRegex("[a-z")
+                                                                    .build());
+        assertCannotCompile(constraints, "[a-z");
+        assertCannotCompile(constraints, "[a-z");
+    }
+
+    @Test
+    @DisplayName("report a pattern with invalid flags")
+    void invalidFlags() {
+        FieldConstraints constraints = constraintsWith(PatternOption.newBuilder()
+                                                                    .setRegex("[a-z]+")
+                                                                    .setFlag(-1)
+                                                                    .build());
+        assertCannotCompile(constraints, "[a-z]+");
+    }
+
+    private static FieldConstraints constraintsWith(PatternOption pattern) {
+        FieldOptions options = FieldOptions.newBuilder()
+                                           .setExtension(OptionsProto.pattern, pattern)
+                                           .build();
+        return FieldConstraints.of(FIELD, options);
+    }
+
+    private static void assertCannotCompile(FieldConstraints constraints, String regex) {
+        IllegalStateException exception =
+                assertThrows(IllegalStateException.class, constraints::compiledPattern);
+        String message = exception.getMessage();
+        assertTrue(message.contains(regex));
+        assertTrue(message.contains(FIELD.getFullName()));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import io.spine.base.FieldPath;
+import io.spine.test.validate.EnclosedMessageFieldValue;
+import io.spine.test.validate.PatternStringFieldValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("FieldContext should")
+class FieldContextTest {
+
+    private static final FieldDescriptor PARENT = EnclosedMessageFieldValue.getDescriptor()
+                                                                           .getFields()
+                                                                           .get(0);
+    private static final FieldDescriptor CHILD = PatternStringFieldValue.getDescriptor()
+                                                                        .getFields()
+                                                                        .get(0);
+
+    @Test
+    @DisplayName("not have a target if empty")
+    void emptyTarget() {
+        FieldContext empty = FieldContext.empty();
+        assertTrue(empty.isEmpty());
+        assertEquals(0, empty.depth());
+        assertThrows(IllegalStateException.class, empty::getTarget);
+    }
+
+    @Test
+    @DisplayName("link a child context to its parent")
+    void child() {
+        FieldContext child = FieldContext.create(PARENT)
+                                         .forChild(CHILD);
+        assertSame(CHILD, child.getTarget());
+        assertSame(PARENT, child.getTargetParent());
+        assertEquals(2, child.depth());
+        assertNull(FieldContext.create(PARENT)
+                               .getTargetParent());
+    }
+
+    @Test
+    @DisplayName("build the field path of the target")
+    void fieldPath() {
+        FieldPath path = FieldContext.create(PARENT)
+                                     .forChild(CHILD)
+                                     .getFieldPath();
+        FieldPath expected = FieldPath.newBuilder()
+                                      .addFieldName(PARENT.getName())
+                                      .addFieldName(CHILD.getName())
+                                      .build();
+        assertEquals(expected, path);
+    }
+
+    @Test
+    @DisplayName("be equal to a context with the same descriptors")
+    void equality() {
+        FieldContext first = FieldContext.create(PARENT)
+                                         .forChild(CHILD);
+        FieldContext second = FieldContext.empty()
+                                          .forChild(PARENT)
+                                          .forChild(CHILD);
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, FieldContext.create(CHILD));
+    }
+
+    @Test
+    @DisplayName("tell if contexts have the same target and parent")
+    void sameTargetAndParent() {
+        FieldContext context = FieldContext.create(PARENT)
+                                           .forChild(CHILD);
+        FieldContext topLevel = FieldContext.create(CHILD);
+        assertTrue(context.hasSameTargetAndParent(FieldContext.create(PARENT)
+                                                              .forChild(CHILD)));
+        assertFalse(context.hasSameTargetAndParent(topLevel));
+        assertFalse(topLevel.hasSameTargetAndParent(context));
+    }
+}
@@ -0,0 +1,392 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
+import io.spine.option.Time;
+import io.spine.test.validate.DecimalMaxNotIncNumberFieldValue;
+import io.spine.test.validate.DecimalMinIncNumberFieldValue;
+import io.spine.test.validate.DigitsCountIntFieldValue;
+import io.spine.test.validate.DigitsCountNumberFieldValue;
+import io.spine.test.validate.EnclosedMessageFieldValue;
+import io.spine.test.validate.EnclosedMessageWithRequiredString;
+import io.spine.test.validate.EnclosedMessageWithoutAnnotationFieldValue;
+import io.spine.test.validate.InvalidMessage;
+import io.spine.test.validate.MaxNumberFieldValue;
+import io.spine.test.validate.MessageWithMapMessageField;
+import io.spine.test.validate.MessageWithRepeatedRequiredValidatedMessageField;
+import io.spine.test.validate.MessageWithRepeatedRequiredValidatedStringField;
+import io.spine.test.validate.MessageWithRepeatedUnchekedMessageField;
+import io.spine.test.validate.MessageWithRepeatedValidatedMessageField;
+import io.spine.test.validate.MessageWithRepeatedValidatedStringField;
+import io.spine.test.validate.MessegeWithRepeatedRequiredStringField;
+import io.spine.test.validate.MinNumberFieldValue;
+import io.spine.test.validate.PatternStringFieldValue;
+import io.spine.test.validate.RangeRepeatedLongFieldValue;
+import io.spine.test.validate.RepeatedRequiredMsgFieldValue;
+import io.spine.test.validate.RequiredBooleanFieldValue;
+import io.spine.test.validate.RequiredByteStringFieldValue;
+import io.spine.test.validate.RequiredEnumFieldValue;
+import io.spine.test.validate.RequiredMsgFieldValue;
+import io.spine.test.validate.RequiredStringFieldValue;
+import io.spine.test.validate.TimeInFutureFieldValue;
+import io.spine.test.validate.TimeInPastFieldValue;
+import io.spine.test.validate.TimeWindowFieldValue;
+import io.spine.test.validate.altfields.DataOrName;
+import io.spine.test.validate.altfields.MessageWithMissingField;
+import io.spine.test.validate.altfields.NumberOrName;
+import io.spine.test.validate.altfields.PersonName;
+import io.spine.test.validate.altfields.PriorityOrName;
+import io.spine.test.validate.anyfields.AnyContainer;
+import io.spine.test.validate.anyfields.UncheckedAnyContainer;
+import io.spine.test.validate.command.EntityIdByteStringFieldValue;
+import io.spine.test.validate.command.EntityIdDoubleFieldValue;
+import io.spine.test.validate.command.EntityIdIntFieldValue;
+import io.spine.test.validate.command.EntityIdLongFieldValue;
+import io.spine.test.validate.command.EntityIdMsgFieldValue;
+import io.spine.test.validate.command.EntityIdRepeatedFieldValue;
+import io.spine.test.validate.command.EntityIdStringFieldValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static io.spine.base.Time.getCurrentTime;
+import static io.spine.protobuf.AnyPacker.pack;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Ensures that {@link MessageValidator#check(Message)} agrees with
+ * {@link MessageValidator#validate(Message)} for each of the validation options.
+ *
+ * <p>The check and the validation implement the rules independently, so each rule is
+ * covered by both a valid and an invalid message.
+ */
+@DisplayName("MessageChecker should")
+class MessageCheckerTest {
+
+    private static final String VALID_EMAIL = "user@example.com";
+    private static final String INVALID_VALUE = "?";
+    private static final long SECONDS_IN_HOUR = 3600L;
+
+    private final MessageValidator validator = MessageValidator.newInstance();
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("messages")
+    @DisplayName("agree with the validation")
+    void agreeWithValidation(String description, Message message) {
+        boolean valid = validator.validate(message)
+                                 .isEmpty();
+        assertEquals(valid, validator.check(message), description);
+    }
+
+    @SuppressWarnings("unused") // Used as the method source.
+    private static Stream<Arguments> messages() {
+        return Stream.of(
+                arguments("required message, missing", RequiredMsgFieldValue.getDefaultInstance()),
+                arguments("required message, set", RequiredMsgFieldValue
+                        .newBuilder()
+                        .setValue(stringValue())
+                        .build()),
+                arguments("required string, missing",
+                          RequiredStringFieldValue.getDefaultInstance()),
+                arguments("required string, set", RequiredStringFieldValue
+                        .newBuilder()
+                        .setValue(VALID_EMAIL)
+                        .build()),
+                arguments("required bytes, missing",
+                          RequiredByteStringFieldValue.getDefaultInstance()),
+                arguments("required bytes, set", RequiredByteStringFieldValue
+                        .newBuilder()
+                        .setValue(bytes())
+                        .build()),
+                arguments("required enum, missing", RequiredEnumFieldValue.getDefaultInstance()),
+                arguments("required enum, set", RequiredEnumFieldValue
+                        .newBuilder()
+                        .setValue(Time.FUTURE)
+                        .build()),
+                arguments("required bool, missing",
+                          RequiredBooleanFieldValue.getDefaultInstance()),
+                arguments("required repeated message, empty",
+                          RepeatedRequiredMsgFieldValue.getDefaultInstance()),
+                arguments("required repeated message, set", RepeatedRequiredMsgFieldValue
+                        .newBuilder()
+                        .addValue(stringValue())
+                        .build()),
+                arguments("required repeated string, empty",
+                          MessegeWithRepeatedRequiredStringField.getDefaultInstance()),
+                arguments("required repeated string, set", MessegeWithRepeatedRequiredStringField
+                        .newBuilder()
+                        .addRequiredField(VALID_EMAIL)
+                        .build()),
+
+                arguments("required field alternative, none", PersonName.getDefaultInstance()),
+                arguments("required field alternative, single", PersonName
+                        .newBuilder()
+                        .setFirstName("John")
+                        .build()),
+                arguments("required field alternative, incomplete combination", PersonName
+                        .newBuilder()
+                        .setHonorificPrefix("Mr.")
+                        .build()),
+                arguments("required field alternative, combination", PersonName
+                        .newBuilder()
+                        .setHonorificPrefix("Mr.")
+                        .setLastName("Smith")
+                        .build()),
+                arguments("required field alternative, unknown field", MessageWithMissingField
+                        .newBuilder()
+                        .setPresent(true)
+                        .build()),
+                arguments("required field alternative, number",
+                          NumberOrName.getDefaultInstance()),
+                arguments("required field alternative, enum",
+                          PriorityOrName.getDefaultInstance()),
+                arguments("required field alternative, bytes", DataOrName.getDefaultInstance()),
+
+                arguments("entity ID message, missing", EntityIdMsgFieldValue.getDefaultInstance()),
+                arguments("entity ID message, set", EntityIdMsgFieldValue
+                        .newBuilder()
+                        .setValue(stringValue())
+                        .build()),
+                arguments("entity ID string, missing",
+                          EntityIdStringFieldValue.getDefaultInstance()),
+                arguments("entity ID string, set", EntityIdStringFieldValue
+                        .newBuilder()
+                        .setValue("ID")
+                        .build()),
+                arguments("entity ID int, missing", EntityIdIntFieldValue.getDefaultInstance()),
+                arguments("entity ID int, set", EntityIdIntFieldValue
+                        .newBuilder()
+                        .setValue(42)
+                        .build()),
+                arguments("entity ID long, set", EntityIdLongFieldValue
+                        .newBuilder()
+                        .setValue(42L)
+                        .build()),
+                arguments("entity ID repeated", EntityIdRepeatedFieldValue
+                        .newBuilder()
+                        .addValue("ID")
+                        .build()),
+                arguments("entity ID bytes", EntityIdByteStringFieldValue
+                        .newBuilder()
+                        .setValue(bytes())
+                        .build()),
+                arguments("entity ID double", EntityIdDoubleFieldValue
+                        .newBuilder()
+                        .setValue(4.2)
+                        .build()),
+
+                arguments("valid message, invalid", EnclosedMessageFieldValue
+                        .newBuilder()
+                        .setOuterMsgField(pattern(INVALID_VALUE))
+                        .build()),
+                arguments("valid message, valid", EnclosedMessageFieldValue
+                        .newBuilder()
+                        .setOuterMsgField(pattern(VALID_EMAIL))
+                        .build()),
+                arguments("valid message, missing", EnclosedMessageFieldValue.getDefaultInstance()),
+                arguments("valid message, nested required missing",
+                          EnclosedMessageWithRequiredString
+                                  .newBuilder()
+                                  .setOuterMsgField(RequiredStringFieldValue.getDefaultInstance())
+                                  .build()),
+                arguments("not validated message, invalid",
+                          EnclosedMessageWithoutAnnotationFieldValue
+                                  .newBuilder()
+                                  .setOuterMsgField(pattern(INVALID_VALUE))
+                                  .build()),
+                arguments("valid repeated message, invalid",
+                          MessageWithRepeatedValidatedMessageField
+                                  .newBuilder()
+                                  .addValidated(invalidMessage())
+                                  .build()),
+                arguments("not validated repeated message, invalid",
+                          MessageWithRepeatedUnchekedMessageField
+                                  .newBuilder()
+                                  .addUnchecked(invalidMessage())
+                                  .build()),
+                arguments("required valid repeated message, empty",
+                          MessageWithRepeatedRequiredValidatedMessageField.getDefaultInstance()),
+                arguments("required valid repeated message, invalid",
+                          MessageWithRepeatedRequiredValidatedMessageField
+                                  .newBuilder()
+                                  .addBound(invalidMessage())
+                                  .build()),
+
+                arguments("valid Any, invalid", AnyContainer
+                        .newBuilder()
+                        .setAny(pack(invalidMessage()))
+                        .build()),
+                arguments("valid Any, valid", AnyContainer
+                        .newBuilder()
+                        .setAny(pack(pattern(VALID_EMAIL)))
+                        .build()),
+                arguments("not validated Any, invalid", UncheckedAnyContainer
+                        .newBuilder()
+                        .setAny(pack(invalidMessage()))
+                        .build()),
+                arguments("map of Any", MessageWithMapMessageField
+                        .newBuilder()
+                        .putMapField("key", pack(invalidMessage()))
+                        .build()),
+
+                arguments("time in future, past", TimeInFutureFieldValue
+                        .newBuilder()
+                        .setValue(hoursFromNow(-1))
+                        .build()),
+                arguments("time in future, future", TimeInFutureFieldValue
+                        .newBuilder()
+                        .setValue(hoursFromNow(1))
+                        .build()),
+                arguments("time in past, past", TimeInPastFieldValue
+                        .newBuilder()
+                        .setValue(hoursFromNow(-1))
+                        .build()),
+                arguments("time in past, future", TimeInPastFieldValue
+                        .newBuilder()
+                        .setValue(hoursFromNow(1))
+                        .build()),
+                arguments("time window, valid", TimeWindowFieldValue
+                        .newBuilder()
+                        .setStarted(hoursFromNow(-1))
+                        .addDeadline(hoursFromNow(1))
+                        .setNext(TimeInFutureFieldValue.newBuilder()
+                                                       .setValue(hoursFromNow(2)))
+                        .build()),
+                arguments("time window, invalid nested", TimeWindowFieldValue
+                        .newBuilder()
+                        .setStarted(hoursFromNow(-1))
+                        .addDeadline(hoursFromNow(1))
+                        .setNext(TimeInFutureFieldValue.newBuilder()
+                                                       .setValue(hoursFromNow(-2)))
+                        .build()),
+                arguments("time window, invalid repeated", TimeWindowFieldValue
+                        .newBuilder()
+                        .setStarted(hoursFromNow(-1))
+                        .addDeadline(hoursFromNow(1))
+                        .addDeadline(hoursFromNow(-1))
+                        .build()),
+
+                arguments("pattern, matching", pattern(VALID_EMAIL)),
+                arguments("pattern, not matching", pattern(INVALID_VALUE)),
+                arguments("pattern, not set", PatternStringFieldValue.getDefaultInstance()),
+                arguments("repeated pattern, not matching", MessageWithRepeatedValidatedStringField
+                        .newBuilder()
+                        .addValidated("valid")
+                        .addValidated(INVALID_VALUE)
+                        .build()),
+                arguments("required repeated pattern, empty",
+                          MessageWithRepeatedRequiredValidatedStringField.getDefaultInstance()),
+                arguments("always invalid", invalidMessage()),
+
+                arguments("min, below", MinNumberFieldValue
+                        .newBuilder()
+                        .setValue(10.0)
+                        .build()),
+                arguments("min, above", MinNumberFieldValue
+                        .newBuilder()
+                        .setValue(20.0)
+                        .build()),
+                arguments("max, above", MaxNumberFieldValue
+                        .newBuilder()
+                        .setValue(70.0)
+                        .build()),
+                arguments("max, below", MaxNumberFieldValue
+                        .newBuilder()
+                        .setValue(60.0)
+                        .build()),
+                arguments("inclusive decimal min, at bound", DecimalMinIncNumberFieldValue
+                        .newBuilder()
+                        .setValue(16.5)
+                        .build()),
+                arguments("inclusive decimal min, below", DecimalMinIncNumberFieldValue
+                        .newBuilder()
+                        .setValue(16.4)
+                        .build()),
+                arguments("exclusive decimal max, at bound", DecimalMaxNotIncNumberFieldValue
+                        .newBuilder()
+                        .setValue(64.5)
+                        .build()),
+                arguments("exclusive decimal max, below", DecimalMaxNotIncNumberFieldValue
+                        .newBuilder()
+                        .setValue(64.4)
+                        .build()),
+                arguments("digits, fitting", DigitsCountNumberFieldValue
+                        .newBuilder()
+                        .setValue(12.34)
+                        .build()),
+                arguments("digits, too many", DigitsCountNumberFieldValue
+                        .newBuilder()
+                        .setValue(123.456)
+                        .build()),
+                arguments("repeated int digits, too many", DigitsCountIntFieldValue
+                        .newBuilder()
+                        .addValue(1)
+                        .addValue(123)
+                        .build()),
+                arguments("repeated long range, within", RangeRepeatedLongFieldValue
+                        .newBuilder()
+                        .addValue(-10L)
+                        .addValue(10L)
+                        .build()),
+                arguments("repeated long range, outside", RangeRepeatedLongFieldValue
+                        .newBuilder()
+                        .addValue(0L)
+                        .addValue(11L)
+                        .build())
+        );
+    }
+
+    private static StringValue stringValue() {
+        return StringValue.newBuilder()
+                          .setValue(VALID_EMAIL)
+                          .build();
+    }
+
+    private static ByteString bytes() {
+        return ByteString.copyFromUtf8(VALID_EMAIL);
+    }
+
+    private static PatternStringFieldValue pattern(String email) {
+        return PatternStringFieldValue.newBuilder()
+                                      .setEmail(email)
+                                      .build();
+    }
+
+    private static InvalidMessage invalidMessage() {
+        return InvalidMessage.newBuilder()
+                             .setInvalidField(INVALID_VALUE)
+                             .build();
+    }
+
+    private static Timestamp hoursFromNow(int hours) {
+        return Timestamps.add(getCurrentTime(), Durations.fromSeconds(hours * SECONDS_IN_HOUR));
+    }
+}
@@ -1026,6 +1026,7 @@ public class MessageValidatorShould {
 
     private void validate(Message msg) {
         violations = validator.validate(msg);
+        assertEquals(violations.isEmpty(), validator.check(msg));
     }
 
     private ConstraintViolation firstViolation() {
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.protobuf.Message;
+import io.spine.test.validate.DigitsCountIntFieldValue;
+import io.spine.test.validate.DigitsCountNumberFieldValue;
+import io.spine.test.validate.RangeRepeatedLongFieldValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("NumberBounds should")
+class NumberBoundsTest {
+
+    private final MessageValidator validator = MessageValidator.newInstance();
+
+    @Test
+    @DisplayName("count digits of integral values")
+    void integralDigits() {
+        assertValid(DigitsCountIntFieldValue.newBuilder()
+                                            .addValue(99)
+                                            .addValue(-10)
+                                            .addValue(0)
+                                            .build());
+        assertViolations(2, DigitsCountIntFieldValue.newBuilder()
+                                                    .addValue(100)
+                                                    .addValue(5)
+                                                    .addValue(-123)
+                                                    .build());
+    }
+
+    @Test
+    @DisplayName("count digits of floating point values")
+    void floatingPointDigits() {
+        assertValid(DigitsCountNumberFieldValue.newBuilder()
+                                               .setValue(-12.34)
+                                               .build());
+        assertValid(DigitsCountNumberFieldValue.newBuilder()
+                                               .setValue(1.0)
+                                               .build());
+        assertViolations(1, DigitsCountNumberFieldValue.newBuilder()
+                                                       .setValue(1.234)
+                                                       .build());
+        assertViolations(1, DigitsCountNumberFieldValue.newBuilder()
+                                                       .setValue(123.4)
+                                                       .build());
+        assertViolations(1, DigitsCountNumberFieldValue.newBuilder()
+                                                       .setValue(1.0E10)
+                                                       .build());
+    }
+
+    @Test
+    @DisplayName("check range of repeated values")
+    void repeatedRange() {
+        assertValid(RangeRepeatedLongFieldValue.newBuilder()
+                                               .addValue(-10)
+                                               .addValue(10)
+                                               .build());
+        assertViolations(2, RangeRepeatedLongFieldValue.newBuilder()
+                                                       .addValue(-11)
+                                                       .addValue(0)
+                                                       .addValue(Long.MAX_VALUE)
+                                                       .build());
+    }
+
+    private void assertValid(Message message) {
+        assertTrue(validator.validate(message)
+                            .isEmpty());
+        assertTrue(validator.check(message));
+    }
+
+    private void assertViolations(int expected, Message message) {
+        List<ConstraintViolation> violations = validator.validate(message);
+        assertEquals(expected, violations.size());
+        assertFalse(validator.check(message));
+    }
+}
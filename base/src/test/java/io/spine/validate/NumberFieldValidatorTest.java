@@ -27,7 +27,6 @@ import org.junit.jupiter.api.Test;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.truth.extensions.proto.ProtoTruth.assertThat;
 import static java.lang.Math.abs;
-import static org.junit.jupiter.api.Assertions.assertEquals;
 
 abstract class NumberFieldValidatorTest<V extends Number & Comparable<V>,
                                         T extends NumberFieldValidator<V>> {
@@ -40,7 +39,6 @@ abstract class NumberFieldValidatorTest<V extends Number & Comparable<V>,
     );
 
     private final V positiveValue;
-    private final V negativeValue;
     private final T validator;
 
     NumberFieldValidatorTest(V positiveValue, V negativeValue, T validator) {
@@ -51,23 +49,9 @@ abstract class NumberFieldValidatorTest<V extends Number & Comparable<V>,
                                   "positiveValue and negativeValue must be of the same size");
 
         this.positiveValue = positiveValue;
-        this.negativeValue = negativeValue;
         this.validator = validator;
     }
 
-    @Test
-    @DisplayName("convert string to number")
-    void stringToNumber() {
-        assertEquals(positiveValue, validator.toNumber(positiveValue.toString()));
-        assertEquals(negativeValue, validator.toNumber(negativeValue.toString()));
-    }
-
-    @Test
-    @DisplayName("obtain absolute number value")
-    void absolute() {
-        assertEquals(positiveValue, validator.getAbs(negativeValue));
-    }
-
     @Test
     @DisplayName("wrap and pack value to Any")
     void wrapToAny() {
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.protobuf.Timestamp;
+import io.spine.base.Time;
+import io.spine.test.validate.TimeInFutureFieldValue;
+import io.spine.test.validate.TimeWindowFieldValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Validation of `(when)` constraints should")
+class TimeSnapshotTest {
+
+    private static final long NOW_SECONDS = 1_000_000L;
+
+    private final MessageValidator validator = MessageValidator.newInstance();
+    private CountingProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new CountingProvider();
+        Time.setProvider(provider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Time.resetProvider();
+    }
+
+    @Test
+    @DisplayName("obtain the current time once per validation")
+    void onceForValidation() {
+        assertTrue(validator.validate(validWindow())
+                            .isEmpty());
+        assertEquals(1, provider.calls);
+    }
+
+    @Test
+    @DisplayName("obtain the current time once per check")
+    void onceForCheck() {
+        assertTrue(validator.check(validWindow()));
+        assertEquals(1, provider.calls);
+    }
+
+    @Test
+    @DisplayName("check all the fields against the same moment")
+    void sameMoment() {
+        TimeWindowFieldValue message = validWindow()
+                .toBuilder()
+                .addDeadline(seconds(NOW_SECONDS))
+                .build();
+        assertEquals(1, validator.validate(message)
+                                 .size());
+        assertFalse(validator.check(message));
+    }
+
+    @Test
+    @DisplayName("not obtain the current time for messages without time constraints")
+    void noTimeConstraints() {
+        validator.validate(ConstraintViolation.getDefaultInstance());
+        assertEquals(0, provider.calls);
+    }
+
+    private static TimeWindowFieldValue validWindow() {
+        return TimeWindowFieldValue
+                .newBuilder()
+                .setStarted(seconds(NOW_SECONDS - 1))
+                .addDeadline(seconds(NOW_SECONDS + 1))
+                .addDeadline(seconds(NOW_SECONDS + 2))
+                .setNext(TimeInFutureFieldValue.newBuilder()
+                                               .setValue(seconds(NOW_SECONDS + 3)))
+                .build();
+    }
+
+    private static Timestamp seconds(long seconds) {
+        return Timestamp.newBuilder()
+                        .setSeconds(seconds)
+                        .build();
+    }
+
+    /**
+     * Provides the same moment and counts how many times it was asked for.
+     */
+    private static final class CountingProvider implements Time.Provider {
+
+        private int calls;
+
+        @Override
+        public Timestamp getCurrentTime() {
+            calls++;
+            return seconds(NOW_SECONDS);
+        }
+    }
+}
@@ -23,6 +23,7 @@ package io.spine.validate;
 import com.google.common.testing.NullPointerTester;
 import com.google.protobuf.Message;
 import com.google.protobuf.StringValue;
+import io.spine.test.validate.RequiredStringFieldValue;
 import io.spine.testing.Tests;
 import io.spine.type.TypeName;
 import io.spine.validate.ConstraintViolation;
@@ -30,6 +31,7 @@ import io.spine.validate.ConstraintViolations;
 import io.spine.validate.Validate;
 import org.junit.Test;
 
+import static io.spine.base.Identifier.newUuid;
 import static io.spine.protobuf.TypeConverter.toMessage;
 import static io.spine.testing.TestValues.newUuidValue;
 import static io.spine.testing.Tests.assertHasPrivateParameterlessCtor;
@@ -169,6 +171,20 @@ public class ValidateShould {
         assertEquals("abc 1 abc 2", formatted);
     }
 
+    @Test
+    public void tell_if_message_is_valid() {
+        RequiredStringFieldValue valid = RequiredStringFieldValue.newBuilder()
+                                                                 .setValue(newUuid())
+                                                                 .build();
+        assertTrue(Validate.isValid(valid));
+        assertFalse(Validate.isValid(RequiredStringFieldValue.getDefaultInstance()));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void throw_ValidationException_for_invalid_message() {
+        Validate.checkValid(RequiredStringFieldValue.getDefaultInstance());
+    }
+
     @Test
     public void pass_the_null_tolerance_check() {
         new NullPointerTester()
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import io.spine.test.validate.EnclosedMessageFieldValue;
+import io.spine.test.validate.MessageWithRepeatedValidatedStringField;
+import io.spine.test.validate.PatternStringFieldValue;
+import io.spine.test.validate.RequiredStringFieldValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ValidationMetrics should")
+class ValidationMetricsTest {
+
+    private final MessageValidator validator = MessageValidator.newInstance();
+    private ValidationMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new ValidationMetrics();
+        ValidationListeners.register(metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ValidationListeners.unregister();
+    }
+
+    @Test
+    @DisplayName("count validations and violations per option")
+    void countViolations() {
+        MessageWithRepeatedValidatedStringField message =
+                MessageWithRepeatedValidatedStringField.newBuilder()
+                                                       .addValidated("?")
+                                                       .addValidated("valid")
+                                                       .addValidated("!")
+                                                       .build();
+        validator.validate(message);
+        validator.validate(RequiredStringFieldValue.getDefaultInstance());
+
+        ValidationMetrics.TypeMetrics stringMetrics =
+                metrics.of(MessageWithRepeatedValidatedStringField.getDescriptor()
+                                                                  .getFullName())
+                       .orElseThrow(AssertionError::new);
+        assertEquals(1, stringMetrics.validations());
+        assertEquals(2, stringMetrics.violations("pattern"));
+        assertTrue(stringMetrics.percentileNanos(0.5) <= stringMetrics.percentileNanos(1));
+
+        ValidationMetrics.TypeMetrics requiredMetrics =
+                metrics.of(RequiredStringFieldValue.getDescriptor()
+                                                   .getFullName())
+                       .orElseThrow(AssertionError::new);
+        assertEquals(1, requiredMetrics.violations("required"));
+    }
+
+    @Test
+    @DisplayName("report the depth of nested messages")
+    void nested() {
+        EnclosedMessageFieldValue message = EnclosedMessageFieldValue
+                .newBuilder()
+                .setOuterMsgField(PatternStringFieldValue.newBuilder()
+                                                         .setEmail("invalid"))
+                .build();
+        validator.validate(message);
+
+        ValidationMetrics.TypeMetrics outer =
+                metrics.of(EnclosedMessageFieldValue.getDescriptor()
+                                                    .getFullName())
+                       .orElseThrow(AssertionError::new);
+        ValidationMetrics.TypeMetrics inner =
+                metrics.of(PatternStringFieldValue.getDescriptor()
+                                                  .getFullName())
+                       .orElseThrow(AssertionError::new);
+        assertEquals(0, outer.maxDepth());
+        assertEquals(1, outer.violations("valid"));
+        assertEquals(1, inner.maxDepth());
+        assertEquals(1, inner.violations("pattern"));
+    }
+
+    @Test
+    @DisplayName("count an invalid message checked for validity once")
+    void checkedInvalidOnce() {
+        RequiredStringFieldValue invalid = RequiredStringFieldValue.getDefaultInstance();
+        assertThrows(ValidationException.class, () -> Validate.checkValid(invalid));
+
+        ValidationMetrics.TypeMetrics typeMetrics =
+                metrics.of(RequiredStringFieldValue.getDescriptor()
+                                                   .getFullName())
+                       .orElseThrow(AssertionError::new);
+        assertEquals(1, typeMetrics.validations());
+        assertEquals(1, typeMetrics.violations("required"));
+    }
+
+    @Test
+    @DisplayName("count a valid message checked for validity once")
+    void checkedValidOnce() {
+        RequiredStringFieldValue valid = RequiredStringFieldValue.newBuilder()
+                                                                 .setValue("valid")
+                                                                 .build();
+        Validate.checkValid(valid);
+
+        ValidationMetrics.TypeMetrics typeMetrics =
+                metrics.of(RequiredStringFieldValue.getDescriptor()
+                                                   .getFullName())
+                       .orElseThrow(AssertionError::new);
+        assertEquals(1, typeMetrics.validations());
+    }
+
+    @Test
+    @DisplayName("not collect metrics when unregistered")
+    void unregistered() {
+        ValidationListeners.unregister();
+        validator.validate(RequiredStringFieldValue.getDefaultInstance());
+        assertTrue(metrics.types()
+                          .isEmpty());
+        assertFalse(metrics.of(RequiredStringFieldValue.getDescriptor()
+                                                       .getFullName())
+                           .isPresent());
+    }
+
+    @Test
+    @DisplayName("not accept a percentile out of range")
+    void percentileRange() {
+        validator.validate(RequiredStringFieldValue.getDefaultInstance());
+        ValidationMetrics.TypeMetrics typeMetrics =
+                metrics.of(RequiredStringFieldValue.getDescriptor()
+                                                   .getFullName())
+                       .orElseThrow(AssertionError::new);
+        assertThrows(IllegalArgumentException.class, () -> typeMetrics.percentileNanos(0));
+        assertThrows(IllegalArgumentException.class, () -> typeMetrics.percentileNanos(1.5));
+    }
+}
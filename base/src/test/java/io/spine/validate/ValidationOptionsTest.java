@@ -0,0 +1,221 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.protobuf.Message;
+import io.spine.test.validate.EnclosedMessageFieldValue;
+import io.spine.test.validate.InvalidMessage;
+import io.spine.test.validate.MessageWithRepeatedValidatedMessageField;
+import io.spine.test.validate.MessageWithRepeatedValidatedStringField;
+import io.spine.test.validate.PatternStringFieldValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MessageValidator with ValidationOptions should")
+class ValidationOptionsTest {
+
+    private static final String INVALID_VALUE = "?";
+
+    private final MessageValidator validator = MessageValidator.newInstance();
+
+    @Test
+    @DisplayName("report all violations by default")
+    void reportAll() {
+        ValidationResult result = validator.validate(repeatedInvalid(3),
+                                                     ValidationOptions.defaults());
+        assertEquals(3, result.violations()
+                              .size());
+        assertFalse(result.isTruncated());
+    }
+
+    @Test
+    @DisplayName("stop on the first violation in the fail-fast mode")
+    void failFast() {
+        ValidationResult result = validator.validate(repeatedInvalid(3),
+                                                     ValidationOptions.failFast());
+        assertEquals(1, result.violations()
+                              .size());
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    @DisplayName("stop when the max number of violations is found")
+    void maxViolations() {
+        ValidationOptions options = ValidationOptions.newBuilder()
+                                                     .setMaxViolations(2)
+                                                     .build();
+        ValidationResult result = validator.validate(repeatedInvalid(5), options);
+        assertEquals(2, result.violations()
+                              .size());
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    @DisplayName("not mark the result truncated on exactly the max number of violations")
+    void exactlyMaxViolations() {
+        ValidationOptions options = ValidationOptions.newBuilder()
+                                                     .setMaxViolations(2)
+                                                     .build();
+        ValidationResult result = validator.validate(repeatedInvalid(2), options);
+        assertEquals(2, result.violations()
+                              .size());
+        assertFalse(result.isTruncated());
+    }
+
+    @Test
+    @DisplayName("not validate fields deeper than the max depth")
+    void maxDepth() {
+        EnclosedMessageFieldValue msg = EnclosedMessageFieldValue
+                .newBuilder()
+                .setOuterMsgField(PatternStringFieldValue.newBuilder()
+                                                         .setEmail(INVALID_VALUE))
+                .build();
+        ValidationOptions options = ValidationOptions.newBuilder()
+                                                     .setMaxDepth(1)
+                                                     .build();
+        ValidationResult result = validator.validate(msg, options);
+        assertTrue(result.isValid());
+        assertTrue(result.isTruncated());
+
+        ValidationResult unlimited = validator.validate(msg, ValidationOptions.defaults());
+        assertFalse(unlimited.isValid());
+        assertFalse(unlimited.isTruncated());
+    }
+
+    @Test
+    @DisplayName("not accept non-positive limits")
+    void rejectNonPositive() {
+        ValidationOptions.Builder builder = ValidationOptions.newBuilder();
+        assertThrows(IllegalArgumentException.class, () -> builder.setMaxViolations(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.setMaxDepth(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.setParallelThreshold(0));
+    }
+
+    @Test
+    @DisplayName("mark ValidationException as truncated")
+    void truncatedException() {
+        ValidationException exception =
+                assertThrows(ValidationException.class,
+                             () -> Validate.checkValid(repeatedInvalid(2),
+                                                       ValidationOptions.failFast()));
+        assertEquals(1, exception.getConstraintViolations()
+                                 .size());
+        assertTrue(exception.isTruncated());
+    }
+
+    @Test
+    @DisplayName("not mark ValidationException as truncated if no violations are dropped")
+    void notTruncatedException() {
+        ValidationException exception =
+                assertThrows(ValidationException.class,
+                             () -> Validate.checkValid(repeatedInvalid(1),
+                                                       ValidationOptions.failFast()));
+        assertEquals(1, exception.getConstraintViolations()
+                                 .size());
+        assertFalse(exception.isTruncated());
+    }
+
+    @Test
+    @DisplayName("not check fields deeper than the max depth when checking validity")
+    void checkValidWithMaxDepth() {
+        EnclosedMessageFieldValue msg = EnclosedMessageFieldValue
+                .newBuilder()
+                .setOuterMsgField(PatternStringFieldValue.newBuilder()
+                                                         .setEmail(INVALID_VALUE))
+                .build();
+        ValidationOptions options = ValidationOptions.newBuilder()
+                                                     .setMaxDepth(1)
+                                                     .build();
+        Validate.checkValid(msg, options);
+        assertThrows(ValidationException.class,
+                     () -> Validate.checkValid(msg, ValidationOptions.defaults()));
+    }
+
+    @Test
+    @DisplayName("report the same violations when validating string values in parallel")
+    void parallelStrings() {
+        MessageWithRepeatedValidatedStringField.Builder builder =
+                MessageWithRepeatedValidatedStringField.newBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.addValidated(i % 3 == 0 ? INVALID_VALUE + i : "valid" + i);
+        }
+        assertSameInParallel(builder.build());
+    }
+
+    @Test
+    @DisplayName("report the same violations when validating message values in parallel")
+    void parallelMessages() {
+        MessageWithRepeatedValidatedMessageField.Builder builder =
+                MessageWithRepeatedValidatedMessageField.newBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.addValidated(InvalidMessage.newBuilder()
+                                               .setInvalidField(String.valueOf(i)));
+        }
+        assertSameInParallel(builder.build());
+    }
+
+    @Test
+    @DisplayName("not validate in parallel if the number of violations is limited")
+    void parallelWithLimit() {
+        ValidationOptions options = ValidationOptions.newBuilder()
+                                                     .setParallelThreshold(2)
+                                                     .setMaxViolations(2)
+                                                     .build();
+        ValidationResult result = validator.validate(repeatedInvalid(5), options);
+        assertEquals(2, result.violations()
+                              .size());
+        assertTrue(result.isTruncated());
+    }
+
+    private void assertSameInParallel(Message message) {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ValidationOptions options = ValidationOptions.newBuilder()
+                                                         .setParallelThreshold(2)
+                                                         .setPool(pool)
+                                                         .build();
+            ValidationResult parallel = validator.validate(message, options);
+            ValidationResult sequential = validator.validate(message,
+                                                             ValidationOptions.defaults());
+            assertFalse(parallel.isValid());
+            assertEquals(sequential.violations(), parallel.violations());
+            assertFalse(parallel.isTruncated());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static MessageWithRepeatedValidatedStringField repeatedInvalid(int count) {
+        MessageWithRepeatedValidatedStringField.Builder builder =
+                MessageWithRepeatedValidatedStringField.newBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.addValidated(INVALID_VALUE);
+        }
+        return builder.build();
+    }
+}
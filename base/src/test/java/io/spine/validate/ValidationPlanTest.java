@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.validate;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import io.spine.test.validate.EnclosedMessageFieldValue;
+import io.spine.test.validate.MessageWithMapStringField;
+import io.spine.test.validate.PatternStringFieldValue;
+import io.spine.test.validate.RequiredMsgFieldValue;
+import io.spine.test.validate.TimeInFutureFieldValue;
+import io.spine.test.validate.altfields.PersonName;
+import io.spine.test.validate.command.EntityIdStringFieldValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ValidationPlan should")
+class ValidationPlanTest {
+
+    @Test
+    @DisplayName("compile the required_field option")
+    void alternatives() {
+        RequiredFieldAlternatives alternatives = ValidationPlan.of(PersonName.getDescriptor())
+                                                               .alternatives();
+        assertNotNull(alternatives);
+        assertTrue(alternatives.foundIn(PersonName.newBuilder()
+                                                  .setFirstName("John")
+                                                  .build(), null));
+        assertFalse(alternatives.foundIn(PersonName.newBuilder()
+                                                   .setLastName("Doe")
+                                                   .build(), null));
+        assertNull(ValidationPlan.of(PatternStringFieldValue.getDescriptor())
+                                 .alternatives());
+    }
+
+    @Test
+    @DisplayName("be created once per message type")
+    void cachePerType() {
+        Descriptor type = RequiredMsgFieldValue.getDescriptor();
+        assertSame(ValidationPlan.of(type), ValidationPlan.of(type));
+    }
+
+    @Test
+    @DisplayName("contain plans of all fields in declaration order")
+    void fieldsInOrder() {
+        Descriptor type = PatternStringFieldValue.getDescriptor();
+        ValidationPlan plan = ValidationPlan.of(type);
+
+        assertEquals(type.getFields()
+                         .size(), plan.fields()
+                                      .size());
+        for (FieldDescriptor field : type.getFields()) {
+            assertSame(field, plan.field(field)
+                                  .descriptor());
+        }
+    }
+
+    @Test
+    @DisplayName("resolve field options")
+    void resolveOptions() {
+        FieldDescriptor field = RequiredMsgFieldValue.getDescriptor()
+                                                     .getFields()
+                                                     .get(0);
+        FieldConstraints constraints = FieldPlan.of(field)
+                                                .constraintsIn(FieldContext.create(field));
+        assertTrue(constraints.required());
+        assertFalse(constraints.valid());
+    }
+
+    @Test
+    @DisplayName("flag the first field of a command message as entity ID")
+    void entityId() {
+        FieldDescriptor field = EntityIdStringFieldValue.getDescriptor()
+                                                        .getFields()
+                                                        .get(0);
+        assertTrue(FieldPlan.of(field)
+                            .isEntityId());
+    }
+
+    @Test
+    @DisplayName("tell if a field may become invalid as time passes")
+    void timeDependent() {
+        FieldDescriptor timeField = TimeInFutureFieldValue.getDescriptor()
+                                                          .getFields()
+                                                          .get(0);
+        FieldDescriptor enclosingField = EnclosedMessageFieldValue.getDescriptor()
+                                                                  .getFields()
+                                                                  .get(0);
+        assertTrue(FieldPlan.of(timeField)
+                            .isTimeDependent());
+        assertFalse(FieldPlan.of(enclosingField)
+                             .isTimeDependent());
+    }
+
+    @Test
+    @DisplayName("resolve the type of map values")
+    void mapValueType() {
+        FieldDescriptor field = MessageWithMapStringField.getDescriptor()
+                                                         .getFields()
+                                                         .get(0);
+        FieldPlan plan = FieldPlan.of(field);
+
+        assertTrue(plan.isRepeatedOrMap());
+        assertEquals(JavaType.MESSAGE, plan.fieldType());
+        assertEquals(JavaType.STRING, plan.valueType());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.validate.rules;
+
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import io.spine.test.validate.EnclosedMessageFieldValue;
+import io.spine.test.validate.PatternStringFieldValue;
+import io.spine.validate.FieldContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.spine.testing.Tests.assertHasPrivateParameterlessCtor;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("ValidationRuleOptions should")
+class ValidationRuleOptionsTest {
+
+    private static final FieldDescriptor PARENT = EnclosedMessageFieldValue.getDescriptor()
+                                                                           .getFields()
+                                                                           .get(0);
+    private static final FieldDescriptor CHILD = PatternStringFieldValue.getDescriptor()
+                                                                        .getFields()
+                                                                        .get(0);
+
+    @Test
+    @DisplayName("have the private utility constructor")
+    void utilityCtor() {
+        assertHasPrivateParameterlessCtor(ValidationRuleOptions.class);
+    }
+
+    @Test
+    @DisplayName("not find options for a field without validation rules")
+    void noRules() {
+        assertNull(ValidationRuleOptions.findOptions(CHILD, PARENT));
+    }
+
+    @Test
+    @DisplayName("not provide options for a top-level field")
+    void noParent() {
+        FieldContext context = FieldContext.create(CHILD);
+        assertFalse(ValidationRuleOptions.getOptions(context)
+                                         .isPresent());
+    }
+}
@@ -0,0 +1,422 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.validation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type;
+import com.google.protobuf.DescriptorProtos.FieldOptions;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.TypeName;
+import io.spine.code.proto.FieldName;
+import io.spine.code.proto.ScalarType;
+import io.spine.option.DecimalMaxOption;
+import io.spine.option.DecimalMinOption;
+import io.spine.option.DigitsOption;
+import io.spine.option.MaxOption;
+import io.spine.option.MinOption;
+import io.spine.option.OptionsProto;
+import io.spine.option.PatternOption;
+import io.spine.option.Time;
+import io.spine.validate.Validate;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import javax.lang.model.element.Modifier;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.lang.String.format;
+
+/**
+ * Generates the code checking the constraints of a single field in a generated validator.
+ *
+ * <p>The generated code uses the typed accessors of the message class. It must return
+ * {@code true} only if the reflective validation of the field finds no violations. Thus,
+ * the constraints, which are not supported by the generated code (such as nested message
+ * validation, time constraints or map fields), are left to the reflective validation, and
+ * the generated code for such a field just returns {@code false}.
+ *
+ * @see io.spine.validate.GeneratedValidator
+ */
+final class FieldCheck {
+
+    /** The name of the parameter holding the checked message. */
+    static final String MESSAGE = "message";
+
+    private static final String VALUE = "value";
+    private static final String GETTER_PREFIX = "get";
+    private static final String PATTERN_SUFFIX = "_PATTERN";
+
+    private final FieldDescriptorProto field;
+    private final FieldOptions options;
+    private final boolean map;
+    private final boolean repeated;
+    private final String getter;
+
+    private FieldCheck(FieldDescriptorProto field, boolean map) {
+        this.field = field;
+        this.options = field.getOptions();
+        this.map = map;
+        this.repeated = field.getLabel() == Label.LABEL_REPEATED;
+        this.getter = GETTER_PREFIX + FieldName.of(field)
+                                               .toCamelCase();
+    }
+
+    /**
+     * Creates a check for the passed field of the passed message type.
+     */
+    static FieldCheck of(FieldDescriptorProto field, DescriptorProto type) {
+        checkNotNull(field);
+        checkNotNull(type);
+        FieldCheck result = new FieldCheck(field, isMap(field, type));
+        return result;
+    }
+
+    private static boolean isMap(FieldDescriptorProto field, DescriptorProto type) {
+        if (field.getType() != Type.TYPE_MESSAGE || field.getLabel() != Label.LABEL_REPEATED) {
+            return false;
+        }
+        String typeName = field.getTypeName();
+        String entryName = typeName.substring(typeName.lastIndexOf('.') + 1);
+        for (DescriptorProto nested : type.getNestedTypeList()) {
+            if (nested.getName()
+                      .equals(entryName)) {
+                return nested.getOptions()
+                             .getMapEntry();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tells if the field declares any constraints.
+     *
+     * <p>A field without constraints is always valid, so no check is generated for it.
+     */
+    boolean hasConstraints() {
+        boolean result = required()
+                || options.getExtension(OptionsProto.valid)
+                || !pattern().getRegex()
+                             .isEmpty()
+                || !min().getValue()
+                         .isEmpty()
+                || !max().getValue()
+                         .isEmpty()
+                || !decimalMin().getValue()
+                                .isEmpty()
+                || !decimalMax().getValue()
+                                .isEmpty()
+                || hasDigits()
+                || hasTimeConstraint();
+        return result;
+    }
+
+    /**
+     * Obtains the declaration of the static field holding the compiled pattern of the field.
+     *
+     * @return the field declaration or {@code Optional.empty()} if the checked field
+     *         has no pattern checked by the generated code
+     */
+    Optional<FieldSpec> patternField() {
+        if (!isSupported() || !checksValues() || !isString()) {
+            return Optional.empty();
+        }
+        PatternOption pattern = pattern();
+        if (pattern.getRegex()
+                   .isEmpty()) {
+            return Optional.empty();
+        }
+        FieldSpec result =
+                FieldSpec.builder(Pattern.class, patternFieldName(),
+                                  Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                         .initializer("$T.compile($S, $L)",
+                                      Pattern.class, pattern.getRegex(), pattern.getFlag())
+                         .build();
+        return Optional.of(result);
+    }
+
+    /**
+     * Generates the statements checking the field.
+     *
+     * <p>The statements return {@code true} if the field is valid and {@code false} if it
+     * is not or if it should be validated reflectively.
+     */
+    CodeBlock body() {
+        if (!isSupported()) {
+            return CodeBlock.builder()
+                            .add("// The constraints of the field are checked reflectively.\n")
+                            .addStatement("return false")
+                            .build();
+        }
+        CodeBlock.Builder body = CodeBlock.builder();
+        if (required()) {
+            body.beginControlFlow("if ($L)", notSetCondition())
+                .addStatement("return false")
+                .endControlFlow();
+        }
+        List<String> conditions = valueConditions();
+        if (checksValues() && !conditions.isEmpty()) {
+            String check = String.join(" && ", conditions);
+            if (repeated) {
+                body.beginControlFlow("for (int i = 0, count = $L.$LCount(); i < count; i++)",
+                                      MESSAGE, getter)
+                    .addStatement("$T $L = $L.$L(i)", valueType(), VALUE, MESSAGE, getter);
+            } else {
+                body.addStatement("$T $L = $L.$L()", valueType(), VALUE, MESSAGE, getter);
+            }
+            body.beginControlFlow("if (!($L))", check)
+                .addStatement("return false")
+                .endControlFlow();
+            if (repeated) {
+                body.endControlFlow();
+            }
+        }
+        body.addStatement("return true");
+        return body.build();
+    }
+
+    /**
+     * Tells if the generated code can check all the constraints of the field.
+     */
+    private boolean isSupported() {
+        if (map || hasTimeConstraint()) {
+            return false;
+        }
+        Type type = field.getType();
+        switch (type) {
+            case TYPE_STRING:
+                return !checksValues() || isValidPattern();
+            case TYPE_BYTES:
+            case TYPE_ENUM:
+                return true;
+            case TYPE_MESSAGE:
+                return !options.getExtension(OptionsProto.valid);
+            case TYPE_BOOL:
+                return !required();
+            default:
+                if (isNumber()) {
+                    boolean unsupportedOption = required() || (checksValues() && hasDigits());
+                    return !unsupportedOption && boundsParsed();
+                }
+                return false;
+        }
+    }
+
+    /**
+     * Tells if the own rules of the field type are applied to the field values.
+     *
+     * <p>The values of a repeated field are only checked if the field is marked as
+     * {@code (valid)}.
+     */
+    private boolean checksValues() {
+        return !repeated || options.getExtension(OptionsProto.valid);
+    }
+
+    private CodeBlock notSetCondition() {
+        if (repeated) {
+            return CodeBlock.of("$L.$LCount() == 0", MESSAGE, getter);
+        }
+        switch (field.getType()) {
+            case TYPE_STRING:
+            case TYPE_BYTES:
+                return CodeBlock.of("$L.$L().isEmpty()", MESSAGE, getter);
+            case TYPE_ENUM:
+                return CodeBlock.of("$L.$LValue() <= 0", MESSAGE, getter);
+            case TYPE_MESSAGE:
+                return CodeBlock.of("$T.isDefault($L.$L())", Validate.class, MESSAGE, getter);
+            default:
+                throw newIllegalStateException("The field %s cannot be checked to be set.",
+                                               field.getName());
+        }
+    }
+
+    private List<String> valueConditions() {
+        ImmutableList.Builder<String> conditions = ImmutableList.builder();
+        if (isString() && !pattern().getRegex()
+                                    .isEmpty()) {
+            conditions.add(format("%s.matcher(%s).matches()", patternFieldName(), VALUE));
+        }
+        if (isNumber()) {
+            DecimalMinOption decimalMin = decimalMin();
+            addBound(conditions, decimalMin.getValue(), decimalMin.getInclusive() ? ">=" : ">");
+            DecimalMaxOption decimalMax = decimalMax();
+            addBound(conditions, decimalMax.getValue(), decimalMax.getInclusive() ? "<=" : "<");
+            addBound(conditions, min().getValue(), ">=");
+            addBound(conditions, max().getValue(), "<=");
+        }
+        return conditions.build();
+    }
+
+    private void addBound(ImmutableList.Builder<String> conditions,
+                          String bound,
+                          String comparison) {
+        if (bound.isEmpty()) {
+            return;
+        }
+        String literal = checkNotNull(numberLiteral(bound));
+        String condition = format("%s.compare(%s, %s) %s 0",
+                                  wrapperType().getSimpleName(), VALUE, literal, comparison);
+        conditions.add(condition);
+    }
+
+    private boolean boundsParsed() {
+        boolean result = parses(decimalMin().getValue())
+                && parses(decimalMax().getValue())
+                && parses(min().getValue())
+                && parses(max().getValue());
+        return result;
+    }
+
+    private boolean parses(String bound) {
+        return bound.isEmpty() || numberLiteral(bound) != null;
+    }
+
+    /**
+     * Converts the bound declared in an option to a Java literal.
+     *
+     * <p>The bound is parsed the same way as by the reflective validation.
+     *
+     * @return the literal or {@code null} if the bound cannot be represented by a literal
+     */
+    @SuppressWarnings("IfStatementWithTooManyBranches") // OK for the number of Java types.
+    private @Nullable String numberLiteral(String bound) {
+        Class<?> type = valueClass();
+        try {
+            if (type == int.class) {
+                return String.valueOf(Integer.valueOf(bound));
+            } else if (type == long.class) {
+                return Long.valueOf(bound) + "L";
+            } else if (type == float.class) {
+                float value = Float.valueOf(bound);
+                return Float.isFinite(value)
+                       ? value + "F"
+                       : null;
+            } else {
+                double value = Double.valueOf(bound);
+                return Double.isFinite(value)
+                       ? String.valueOf(value)
+                       : null;
+            }
+        } catch (NumberFormatException ignored) {
+            return null;
+        }
+    }
+
+    private boolean isValidPattern() {
+        PatternOption pattern = pattern();
+        if (pattern.getRegex()
+                   .isEmpty()) {
+            return true;
+        }
+        try {
+            Pattern.compile(pattern.getRegex(), pattern.getFlag());
+            return true;
+        } catch (IllegalArgumentException ignored) {
+            // The pattern is reported by the reflective validation.
+            return false;
+        }
+    }
+
+    private boolean isString() {
+        return field.getType() == Type.TYPE_STRING;
+    }
+
+    private boolean isNumber() {
+        Type type = field.getType();
+        boolean result = type != Type.TYPE_STRING
+                && type != Type.TYPE_BYTES
+                && type != Type.TYPE_BOOL
+                && type != Type.TYPE_ENUM
+                && type != Type.TYPE_MESSAGE
+                && type != Type.TYPE_GROUP;
+        return result;
+    }
+
+    private Class<?> valueClass() {
+        return isString()
+               ? String.class
+               : ScalarType.getJavaType(field.getType());
+    }
+
+    private Class<?> wrapperType() {
+        Class<?> type = valueClass();
+        if (type == int.class) {
+            return Integer.class;
+        }
+        if (type == long.class) {
+            return Long.class;
+        }
+        if (type == float.class) {
+            return Float.class;
+        }
+        return Double.class;
+    }
+
+    private TypeName valueType() {
+        return TypeName.get(valueClass());
+    }
+
+    private String patternFieldName() {
+        return FieldName.of(field)
+                        .value()
+                        .toUpperCase() + PATTERN_SUFFIX;
+    }
+
+    private boolean required() {
+        return options.getExtension(OptionsProto.required);
+    }
+
+    private boolean hasDigits() {
+        DigitsOption digits = options.getExtension(OptionsProto.digits);
+        return digits.getIntegerMax() >= 1 && digits.getFractionMax() >= 1;
+    }
+
+    private boolean hasTimeConstraint() {
+        return options.getExtension(OptionsProto.when)
+                      .getIn() != Time.TIME_UNDEFINED;
+    }
+
+    private PatternOption pattern() {
+        return options.getExtension(OptionsProto.pattern);
+    }
+
+    private MinOption min() {
+        return options.getExtension(OptionsProto.min);
+    }
+
+    private MaxOption max() {
+        return options.getExtension(OptionsProto.max);
+    }
+
+    private DecimalMinOption decimalMin() {
+        return options.getExtension(OptionsProto.decimalMin);
+    }
+
+    private DecimalMaxOption decimalMax() {
+        return options.getExtension(OptionsProto.decimalMax);
+    }
+}
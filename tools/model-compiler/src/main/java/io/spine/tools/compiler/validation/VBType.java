@@ -36,20 +36,24 @@ final class VBType {
 
     private final String javaClass;
     private final String javaPackage;
+    private final String protoPackage;
     private final DescriptorProto descriptor;
     private final String sourceProtoFile;
 
     VBType(String javaPackage,
            String javaClass,
+           String protoPackage,
            DescriptorProto descriptor,
            String sourceProtoFile) {
         checkNotNull(javaPackage);
         checkNotNull(javaClass);
+        checkNotNull(protoPackage);
         checkNotNull(descriptor);
         checkNotNull(sourceProtoFile);
 
         this.javaPackage = javaPackage;
         this.javaClass = javaClass;
+        this.protoPackage = protoPackage;
         this.descriptor = descriptor;
         this.sourceProtoFile = sourceProtoFile;
     }
@@ -62,6 +66,23 @@ final class VBType {
         return javaClass;
     }
 
+    /**
+     * Obtains the Protobuf package of the message type.
+     */
+    String getProtoPackage() {
+        return protoPackage;
+    }
+
+    /**
+     * Obtains the full Protobuf name of the message type.
+     */
+    String getProtoName() {
+        String name = descriptor.getName();
+        return protoPackage.isEmpty()
+               ? name
+               : protoPackage + '.' + name;
+    }
+
     DescriptorProto getDescriptor() {
         return descriptor;
     }
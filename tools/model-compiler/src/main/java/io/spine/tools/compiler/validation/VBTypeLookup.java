@@ -124,7 +124,8 @@ class VBTypeLookup implements Logging {
     private VBType newType(DescriptorProto message, FileDescriptorProto file) {
         String className = message.getName() + JAVA_CLASS_NAME_SUFFIX;
         String javaPackage = getJavaPackage(message);
-        VBType result = new VBType(javaPackage, className, message, file.getName());
+        VBType result = new VBType(javaPackage, className, file.getPackage(), message,
+                                   file.getName());
         return result;
     }
 
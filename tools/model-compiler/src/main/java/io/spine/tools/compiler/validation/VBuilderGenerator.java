@@ -39,6 +39,9 @@ import static java.lang.String.format;
 /**
  * Gradle {@code Action} for validating builder generation.
  *
+ * <p>Along with a validating builder, a {@linkplain io.spine.validate.GeneratedValidator
+ * validator} is generated for each message type.
+ *
  * <p>An instance-per-scope is usually created. E.g. test sources and main source are
  * generated with different instances of this class.
  *
@@ -95,6 +98,7 @@ public class VBuilderGenerator implements Logging {
             log.warn("No validating builders will be generated.");
         } else {
             writeVBuilders(filtered, typeCache);
+            writeValidators(filtered, typeCache);
         }
     }
 
@@ -121,6 +125,32 @@ public class VBuilderGenerator implements Logging {
         log.debug("The validating builder generation is finished.");
     }
 
+    /**
+     * Writes {@linkplain io.spine.validate.GeneratedValidator validators} for the same types
+     * as the validating builders.
+     *
+     * <p>A type, for which a validator cannot be generated, is validated reflectively.
+     */
+    private void writeValidators(Set<VBType> types, MessageTypeCache cache) {
+        Logger log = log();
+        ValidatorWriter writer = new ValidatorWriter(targetDirPath, indent, cache);
+        for (VBType type : types) {
+            try {
+                writer.write(type);
+            } catch (RuntimeException e) {
+                String message =
+                        format("Cannot generate the validator for %s. %n" +
+                               "Error: %s", type, e.toString());
+                if (log.isDebugEnabled()) {
+                    log.debug(message, e);
+                } else {
+                    log.warn(message);
+                }
+            }
+        }
+        log.debug("The validator generation is finished.");
+    }
+
     private Set<VBType> filter(boolean classpathGenEnabled, Set<VBType> types) {
         Predicate<VBType> shouldWrite = getPredicate(classpathGenEnabled);
         Iterable<VBType> filtered = Iterables.filter(types, shouldWrite::test);
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.validation;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
+import io.spine.code.Indent;
+import io.spine.logging.Logging;
+import io.spine.tools.compiler.MessageTypeCache;
+import io.spine.validate.GeneratedValidator;
+
+import javax.lang.model.element.Modifier;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static io.spine.tools.compiler.annotation.Annotations.generatedBySpineModelCompiler;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * Writes {@linkplain GeneratedValidator generated validators} to Java files.
+ *
+ * <p>A validator is generated for the same message types as validating builders.
+ * For a message class {@code Foo} the class {@code FooValidator} is written to
+ * the package of the message class. If the message class is nested, the names of
+ * the enclosing classes are prepended, e.g. {@code Outer_FooValidator} is written for
+ * the {@code Outer.Foo} class.
+ *
+ * <p>A validator is not written if its name clashes with the name of a message class or
+ * of another validator. Such types are validated reflectively.
+ */
+class ValidatorWriter implements Logging {
+
+    private static final String CLASS_NAME_SUFFIX = "Validator";
+    private static final String NESTING_SEPARATOR = "_";
+    private static final String FIELD_INDEX = "fieldIndex";
+
+    private final String targetDir;
+    private final Indent indent;
+    private final MessageTypeCache messageTypeCache;
+
+    /**
+     * The full names of the validator classes written by this writer.
+     */
+    private final Set<String> writtenClasses = new HashSet<>();
+
+    ValidatorWriter(String targetDir, Indent indent, MessageTypeCache messageTypeCache) {
+        this.targetDir = targetDir;
+        this.indent = indent;
+        this.messageTypeCache = messageTypeCache;
+    }
+
+    /**
+     * Writes the validator for the message type to a Java file.
+     *
+     * @throws IllegalArgumentException if the Java class of the message type is not known
+     * @throws IllegalStateException    if the name of the validator class is already taken
+     */
+    void write(VBType type) {
+        DescriptorProto descriptor = type.getDescriptor();
+        String javaPackage = type.getJavaPackage();
+        ClassName messageClass = messageClass(type);
+        String javaClass = validatorName(messageClass);
+        checkNotTaken(type, javaPackage, javaClass);
+        log().debug("Writing the {} class under the {} package.", javaClass, javaPackage);
+
+        TypeSpec validator = createClass(javaClass, messageClass, descriptor);
+        writeClass(new File(targetDir), validator, javaPackage);
+
+        log().debug("The {} class was written under the {} package.", javaClass, javaPackage);
+    }
+
+    /**
+     * Obtains the simple name of the validator class for the passed message class.
+     *
+     * <p>Must be consistent with the lookup of the validators in
+     * {@code io.spine.validate.GeneratedValidators}.
+     */
+    static String validatorName(ClassName messageClass) {
+        String result = String.join(NESTING_SEPARATOR, messageClass.simpleNames())
+                + CLASS_NAME_SUFFIX;
+        return result;
+    }
+
+    /**
+     * Obtains the name of the Java class generated for the message type.
+     */
+    private ClassName messageClass(VBType type) {
+        String protoName = type.getProtoName();
+        String javaName = messageTypeCache.getCachedTypes()
+                                          .get(protoName);
+        if (javaName == null) {
+            throw newIllegalArgumentException("The Java class of %s is not found.", protoName);
+        }
+        String javaPackage = type.getJavaPackage();
+        String nestedName = javaPackage.isEmpty()
+                            ? javaName
+                            : javaName.substring(javaPackage.length() + 1);
+        String[] simpleNames = nestedName.split("\\.");
+        String topLevel = simpleNames[0];
+        String[] nested = new String[simpleNames.length - 1];
+        System.arraycopy(simpleNames, 1, nested, 0, nested.length);
+        return ClassName.get(javaPackage, topLevel, nested);
+    }
+
+    /**
+     * Ensures that the validator class neither replaces a message class nor
+     * another validator.
+     */
+    private void checkNotTaken(VBType type, String javaPackage, String javaClass) {
+        String fullName = javaPackage.isEmpty()
+                          ? javaClass
+                          : javaPackage + '.' + javaClass;
+        Collection<String> messageClasses = messageTypeCache.getCachedTypes()
+                                                            .values();
+        if (messageClasses.contains(fullName)) {
+            throw newIllegalStateException(
+                    "The validator %s for %s clashes with a class of a message type.",
+                    fullName, type.getProtoName());
+        }
+        if (!writtenClasses.add(fullName)) {
+            throw newIllegalStateException(
+                    "The validator %s for %s clashes with the validator of another type.",
+                    fullName, type.getProtoName());
+        }
+    }
+
+    private static TypeSpec createClass(String javaClass,
+                                        ClassName messageClass,
+                                        DescriptorProto descriptor) {
+        ParameterizedTypeName superClass =
+                ParameterizedTypeName.get(ClassName.get(GeneratedValidator.class), messageClass);
+        MethodSpec constructor = MethodSpec.constructorBuilder()
+                                           .addModifiers(Modifier.PUBLIC)
+                                           .addStatement("super($T.getDescriptor())",
+                                                         messageClass)
+                                           .build();
+        TypeSpec.Builder result = TypeSpec.classBuilder(javaClass)
+                                          .addAnnotation(generatedBySpineModelCompiler())
+                                          .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                                          .superclass(superClass)
+                                          .addMethod(constructor);
+        CodeBlock.Builder cases = CodeBlock.builder();
+        List<FieldDescriptorProto> fields = descriptor.getFieldList();
+        for (int index = 0; index < fields.size(); index++) {
+            FieldCheck check = FieldCheck.of(fields.get(index), descriptor);
+            if (!check.hasConstraints()) {
+                continue;
+            }
+            check.patternField()
+                 .ifPresent(result::addField);
+            cases.add("case $L: {\n", index)
+                 .indent()
+                 .add(check.body())
+                 .unindent()
+                 .add("}\n");
+        }
+        MethodSpec isFieldValid =
+                MethodSpec.methodBuilder("isFieldValid")
+                          .addAnnotation(Override.class)
+                          .addModifiers(Modifier.PROTECTED)
+                          .returns(boolean.class)
+                          .addParameter(messageClass, FieldCheck.MESSAGE)
+                          .addParameter(int.class, FIELD_INDEX)
+                          .beginControlFlow("switch ($L)", FIELD_INDEX)
+                          .addCode(cases.build())
+                          .addCode("default:\n")
+                          .addCode(CodeBlock.builder()
+                                            .indent()
+                                            .add("// The field declares no constraints.\n")
+                                            .addStatement("return true")
+                                            .unindent()
+                                            .build())
+                          .endControlFlow()
+                          .build();
+        return result.addMethod(isFieldValid)
+                     .build();
+    }
+
+    private void writeClass(File rootFolder, TypeSpec validator, String javaPackage) {
+        try {
+            Files.createDirectories(rootFolder.toPath());
+            JavaFile.builder(javaPackage, validator)
+                    .skipJavaLangImports(true)
+                    .indent(indent.toString())
+                    .build()
+                    .writeTo(rootFolder);
+        } catch (IOException e) {
+            log().warn("{} was not written.", rootFolder, e);
+            throw newIllegalArgumentException(e, "%s was not written.", rootFolder);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.validation;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type;
+import com.google.protobuf.DescriptorProtos.FieldOptions;
+import com.google.protobuf.DescriptorProtos.MessageOptions;
+import io.spine.option.MinOption;
+import io.spine.option.OptionsProto;
+import io.spine.option.PatternOption;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FieldCheckShould {
+
+    private static final String FIELD_NAME = "field_name";
+    private static final String DELEGATE = "return false;\n";
+
+    @Test
+    public void not_check_field_without_constraints() {
+        FieldCheck check = checkOf(field(Type.TYPE_STRING, FieldOptions.getDefaultInstance()));
+        assertFalse(check.hasConstraints());
+    }
+
+    @Test
+    public void check_string_pattern_with_precompiled_pattern() {
+        FieldOptions options = FieldOptions
+                .newBuilder()
+                .setExtension(OptionsProto.pattern, PatternOption.newBuilder()
+                                                                 .setRegex("\\w+")
+                                                                 .build())
+                .build();
+        FieldCheck check = checkOf(field(Type.TYPE_STRING, options));
+
+        assertTrue(check.hasConstraints());
+        assertTrue(check.patternField()
+                        .isPresent());
+        assertTrue(check.body()
+                        .toString()
+                        .contains("FIELD_NAME_PATTERN.matcher(value).matches()"));
+    }
+
+    @Test
+    public void compare_numbers_with_primitive_bounds() {
+        FieldOptions options = FieldOptions
+                .newBuilder()
+                .setExtension(OptionsProto.min, MinOption.newBuilder()
+                                                         .setValue("5")
+                                                         .build())
+                .build();
+        String body = checkOf(field(Type.TYPE_INT64, options)).body()
+                                                              .toString();
+        assertTrue(body, body.contains("Long.compare(value, 5L) >= 0"));
+    }
+
+    @Test
+    public void delegate_unparsable_bounds_to_reflective_validation() {
+        FieldOptions options = FieldOptions
+                .newBuilder()
+                .setExtension(OptionsProto.min, MinOption.newBuilder()
+                                                         .setValue("five")
+                                                         .build())
+                .build();
+        String body = checkOf(field(Type.TYPE_INT32, options)).body()
+                                                              .toString();
+        assertTrue(body, body.endsWith(DELEGATE));
+    }
+
+    @Test
+    public void delegate_invalid_patterns_to_reflective_validation() {
+        FieldOptions options = FieldOptions
+                .newBuilder()
+                .setExtension(OptionsProto.pattern, PatternOption.newBuilder()
+                                                                 .setRegex("(")
+                                                                 .build())
+                .build();
+        FieldCheck check = checkOf(field(Type.TYPE_STRING, options));
+        assertFalse(check.patternField()
+                         .isPresent());
+        assertTrue(check.body()
+                        .toString()
+                        .endsWith(DELEGATE));
+    }
+
+    @Test
+    public void delegate_map_fields_to_reflective_validation() {
+        FieldOptions options = FieldOptions.newBuilder()
+                                           .setExtension(OptionsProto.required, true)
+                                           .build();
+        FieldDescriptorProto field = field(Type.TYPE_MESSAGE, options)
+                .toBuilder()
+                .setLabel(Label.LABEL_REPEATED)
+                .setTypeName(".spine.test.Message.FieldNameEntry")
+                .build();
+        DescriptorProto entry = DescriptorProto
+                .newBuilder()
+                .setName("FieldNameEntry")
+                .setOptions(MessageOptions.newBuilder()
+                                          .setMapEntry(true))
+                .build();
+        DescriptorProto type = DescriptorProto.newBuilder()
+                                              .setName("Message")
+                                              .addField(field)
+                                              .addNestedType(entry)
+                                              .build();
+        assertTrue(FieldCheck.of(field, type)
+                             .body()
+                             .toString()
+                             .endsWith(DELEGATE));
+    }
+
+    private static FieldDescriptorProto field(Type type, FieldOptions options) {
+        return FieldDescriptorProto.newBuilder()
+                                   .setName(FIELD_NAME)
+                                   .setNumber(1)
+                                   .setType(type)
+                                   .setLabel(Label.LABEL_OPTIONAL)
+                                   .setOptions(options)
+                                   .build();
+    }
+
+    private static FieldCheck checkOf(FieldDescriptorProto field) {
+        DescriptorProto type = DescriptorProto.newBuilder()
+                                              .setName("Message")
+                                              .addField(field)
+                                              .build();
+        return FieldCheck.of(field, type);
+    }
+}
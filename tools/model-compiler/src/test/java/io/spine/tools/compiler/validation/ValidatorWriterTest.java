@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.validation;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileOptions;
+import com.squareup.javapoet.ClassName;
+import io.spine.code.Indent;
+import io.spine.tools.compiler.MessageTypeCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ValidatorWriter should")
+class ValidatorWriterTest {
+
+    private static final String JAVA_PACKAGE = "io.spine.test.validator.writer";
+    private static final String PACKAGE_DIR = JAVA_PACKAGE.replace('.', '/');
+    private static final String ITEM = "Item";
+
+    private final MessageTypeCache cache = new MessageTypeCache();
+    private Path targetDir;
+    private ValidatorWriter writer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        targetDir = Files.createTempDirectory("validators");
+        writer = new ValidatorWriter(targetDir.toString(), Indent.of4(), cache);
+    }
+
+    @Test
+    @DisplayName("prepend the names of the enclosing classes to the validator name")
+    void nestedName() {
+        assertEquals("ItemValidator",
+                     ValidatorWriter.validatorName(ClassName.get(JAVA_PACKAGE, ITEM)));
+        assertEquals("Outer_ItemValidator",
+                     ValidatorWriter.validatorName(ClassName.get(JAVA_PACKAGE, "Outer", ITEM)));
+    }
+
+    @Test
+    @DisplayName("write distinct validators for same-named types of different outer classes")
+    void sameNamedNestedTypes() {
+        VBType first = singleFileType("first", "FirstProto");
+        VBType second = singleFileType("second", "SecondProto");
+
+        writer.write(first);
+        writer.write(second);
+
+        assertTrue(Files.exists(validatorFile("FirstProto_ItemValidator")));
+        assertTrue(Files.exists(validatorFile("SecondProto_ItemValidator")));
+        assertFalse(Files.exists(validatorFile("ItemValidator")));
+    }
+
+    @Test
+    @DisplayName("not replace a message class with a validator")
+    void clashWithMessage() {
+        DescriptorProto foo = message("Foo");
+        FileDescriptorProto file = FileDescriptorProto
+                .newBuilder()
+                .setName("clash.proto")
+                .setPackage("spine.test.clash")
+                .setOptions(FileOptions.newBuilder()
+                                       .setJavaPackage(JAVA_PACKAGE)
+                                       .setJavaMultipleFiles(true))
+                .addMessageType(foo)
+                .addMessageType(message("FooValidator"))
+                .build();
+        cache.cacheTypes(file);
+        VBType type = new VBType(JAVA_PACKAGE, "FooVBuilder", file.getPackage(), foo,
+                                 file.getName());
+
+        assertThrows(IllegalStateException.class, () -> writer.write(type));
+        assertFalse(Files.exists(validatorFile("FooValidator")));
+    }
+
+    private VBType singleFileType(String protoPackage, String outerClass) {
+        DescriptorProto item = message(ITEM);
+        FileDescriptorProto file = FileDescriptorProto
+                .newBuilder()
+                .setName(protoPackage + ".proto")
+                .setPackage(protoPackage)
+                .setOptions(FileOptions.newBuilder()
+                                       .setJavaPackage(JAVA_PACKAGE)
+                                       .setJavaOuterClassname(outerClass))
+                .addMessageType(item)
+                .build();
+        cache.cacheTypes(file);
+        return new VBType(JAVA_PACKAGE, ITEM + "VBuilder", protoPackage, item, file.getName());
+    }
+
+    private static DescriptorProto message(String name) {
+        return DescriptorProto.newBuilder()
+                              .setName(name)
+                              .build();
+    }
+
+    private Path validatorFile(String className) {
+        return targetDir.resolve(PACKAGE_DIR)
+                        .resolve(className + ".java");
+    }
+}
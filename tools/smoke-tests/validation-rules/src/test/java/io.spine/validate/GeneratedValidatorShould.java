@@ -0,0 +1,146 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validate;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import io.spine.test.validate.GvEnum;
+import io.spine.test.validate.GvMessages;
+import io.spine.test.validate.GvNumbers;
+import io.spine.test.validate.GvStrings;
+import io.spine.test.validate.InvalidMessage;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Checks that {@linkplain GeneratedValidator generated validators} report the same violations
+ * as the reflective validation.
+ */
+public class GeneratedValidatorShould {
+
+    private static final String INVALID = "?";
+
+    @Test
+    public void be_generated_for_message_types() {
+        assertNotNull(GeneratedValidators.find(GvStrings.getDefaultInstance()));
+        assertNotNull(GeneratedValidators.find(InvalidMessage.getDefaultInstance()));
+    }
+
+    @Test
+    public void validate_strings_as_reflective_validation() {
+        assertSameViolations(GvStrings.getDefaultInstance());
+        assertSameViolations(validStrings());
+        assertSameViolations(validStrings().toBuilder()
+                                           .setEmail(INVALID)
+                                           .setCaseInsensitive("ABD")
+                                           .addCheckedList(INVALID)
+                                           .addUncheckedList(INVALID)
+                                           .build());
+        assertSameViolations(validStrings().toBuilder()
+                                           .setCaseInsensitive("ABC")
+                                           .build());
+    }
+
+    @Test
+    public void validate_numbers_as_reflective_validation() {
+        assertSameViolations(GvNumbers.getDefaultInstance());
+        assertSameViolations(validNumbers());
+        assertSameViolations(GvNumbers.newBuilder()
+                                      .setMinInt(4)
+                                      .setMaxLong(101)
+                                      .setDecimalMinFloat(1.5F)
+                                      .setDecimalMaxDouble(2.51)
+                                      .addCheckedList(0)
+                                      .addCheckedList(11)
+                                      .setDigits(123.456)
+                                      .build());
+        assertSameViolations(GvNumbers.newBuilder()
+                                      .setDecimalMinFloat(Float.NaN)
+                                      .setDecimalMaxDouble(-0.0)
+                                      .build());
+    }
+
+    @Test
+    public void validate_messages_as_reflective_validation() {
+        assertSameViolations(GvMessages.getDefaultInstance());
+        GvMessages valid = GvMessages.newBuilder()
+                                     .setRequired(StringValue.newBuilder()
+                                                             .setValue("set"))
+                                     .setNested(validStrings())
+                                     .setPast(Timestamp.newBuilder()
+                                                       .setSeconds(1))
+                                     .setRequiredEnum(GvEnum.GV_DEFINED)
+                                     .putRequiredMap("key", "value")
+                                     .setRequiredBytes(ByteString.copyFromUtf8("set"))
+                                     .build();
+        assertSameViolations(valid);
+        assertSameViolations(valid.toBuilder()
+                                  .setNested(GvStrings.getDefaultInstance())
+                                  .setRequiredEnumValue(-1)
+                                  .build());
+    }
+
+    @Test
+    public void validate_with_validation_rules_as_reflective_validation() {
+        assertSameViolations(InvalidMessage.getDefaultInstance());
+        assertSameViolations(InvalidMessage.newBuilder()
+                                           .setInvalidField(INVALID)
+                                           .build());
+    }
+
+    private static GvStrings validStrings() {
+        return GvStrings.newBuilder()
+                        .setRequired("set")
+                        .setEmail("user@example.org")
+                        .setCaseInsensitive("aBc")
+                        .addCheckedList("word")
+                        .addRequiredList("set")
+                        .build();
+    }
+
+    private static GvNumbers validNumbers() {
+        return GvNumbers.newBuilder()
+                        .setMinInt(5)
+                        .setMaxLong(100)
+                        .setDecimalMinFloat(1.6F)
+                        .setDecimalMaxDouble(2.5)
+                        .addCheckedList(1)
+                        .addCheckedList(10)
+                        .setDigits(12.34)
+                        .build();
+    }
+
+    private static void assertSameViolations(Message message) {
+        List<ConstraintViolation> expected = MessageValidator.newReflectiveInstance()
+                                                             .validate(message);
+        List<ConstraintViolation> actual = MessageValidator.newInstance()
+                                                           .validate(message);
+        assertEquals(expected, actual);
+        assertEquals(expected.isEmpty(), MessageValidator.newInstance()
+                                                         .check(message));
+    }
+}